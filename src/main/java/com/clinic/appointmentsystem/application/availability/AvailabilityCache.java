@@ -0,0 +1,121 @@
+package com.clinic.appointmentsystem.application.availability;
+
+import com.clinic.appointmentsystem.application.events.ScheduleChangeEvent;
+import com.clinic.appointmentsystem.application.events.SlotChangeEvent;
+import com.clinic.appointmentsystem.infrastructure.cache.BoundedLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * AvailabilityCache - Doktor-gün bazlı müsaitlik önbelleği
+ *
+ * Müsait ve dolu zaman dilimi listelerini doktor-gün anahtarıyla bellekte tutar.
+ * Randevu ve program değişiklikleri işlem tamamlandıktan sonra sadece etkilenen
+ * doktor-gün kayıtlarını önbellekten çıkarır. Yükleme sırasında aynı doktor-gün geçersiz
+ * kılınırsa yüklenen (eski olabilecek) değer önbelleğe yazılmaz; diğer doktor-günlerin
+ * yüklemeleri etkilenmez.
+ */
+@Component
+public class AvailabilityCache {
+
+    private final BoundedLruCache<DoctorDay, List<String>> available;
+    private final BoundedLruCache<DoctorDay, List<String>> booked;
+
+    // Devam eden yüklemelerin doktor-gün bazlı belirteçleri; geçersiz kılma belirteci siler,
+    // belirteci silinmiş yüklemenin sonucu önbelleğe yazılmaz
+    private final Map<DoctorDay, Object> loadingAvailable = new ConcurrentHashMap<>();
+    private final Map<DoctorDay, Object> loadingBooked = new ConcurrentHashMap<>();
+
+    public AvailabilityCache(@Value("${appointment.availability-cache.max-entries:10000}") int maxEntries,
+                             @Value("${appointment.availability-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.available = new BoundedLruCache<>(maxEntries, ttlSeconds * 1000);
+        this.booked = new BoundedLruCache<>(maxEntries, ttlSeconds * 1000);
+    }
+
+    /**
+     * Müsait zaman dilimlerini önbellekten okur, yoksa yükleyip önbelleğe yazar
+     *
+     * @param key Doktor-gün anahtarı
+     * @param loader Önbellekte yoksa çalıştırılacak hesaplama
+     * @return Müsait zaman dilimleri
+     */
+    public List<String> available(DoctorDay key, Supplier<List<String>> loader) {
+        return getOrLoad(available, loadingAvailable, key, loader);
+    }
+
+    /**
+     * Dolu zaman dilimlerini önbellekten okur, yoksa yükleyip önbelleğe yazar
+     *
+     * @param key Doktor-gün anahtarı
+     * @param loader Önbellekte yoksa çalıştırılacak hesaplama
+     * @return Dolu zaman dilimleri
+     */
+    public List<String> booked(DoctorDay key, Supplier<List<String>> loader) {
+        return getOrLoad(booked, loadingBooked, key, loader);
+    }
+
+    /**
+     * Randevu değişikliğinde ilgili doktor-gün kaydını önbellekten çıkarır
+     *
+     * @param event Zaman dilimi değişiklik olayı
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotChange(SlotChangeEvent event) {
+        evict(new DoctorDay(event.doctorId(), event.appointmentTime().toLocalDate()));
+    }
+
+    /**
+     * Program değişikliğinde doktorun o haftanın gününe ait tüm kayıtlarını önbellekten çıkarır
+     *
+     * @param event Program değişiklik olayı
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onScheduleChange(ScheduleChangeEvent event) {
+        loadingAvailable.keySet().removeIf(key -> matches(key, event));
+        loadingBooked.keySet().removeIf(key -> matches(key, event));
+        available.removeIf(key -> matches(key, event));
+        booked.removeIf(key -> matches(key, event));
+    }
+
+    /**
+     * Belirli bir doktor-gün kaydını önbellekten çıkarır
+     *
+     * @param key Doktor-gün anahtarı
+     */
+    public synchronized void evict(DoctorDay key) {
+        loadingAvailable.remove(key);
+        loadingBooked.remove(key);
+        available.remove(key);
+        booked.remove(key);
+    }
+
+    private static boolean matches(DoctorDay key, ScheduleChangeEvent event) {
+        return key.doctorId().equals(event.doctorId()) && key.date().getDayOfWeek() == event.dayOfWeek();
+    }
+
+    private List<String> getOrLoad(BoundedLruCache<DoctorDay, List<String>> cache, Map<DoctorDay, Object> loading,
+                                   DoctorDay key, Supplier<List<String>> loader) {
+        List<String> cached = cache.get(key);
+        if (cached != null) return cached;
+
+        Object token = new Object();
+        loading.put(key, token);
+        List<String> loaded;
+        try {
+            loaded = List.copyOf(loader.get());
+        } catch (RuntimeException e) {
+            loading.remove(key, token);
+            throw e;
+        }
+        synchronized (this) {
+            if (loading.remove(key, token)) cache.put(key, loaded);
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,93 @@
+package com.clinic.appointmentsystem.application.availability;
+
+/**
+ * DayOccupancy - Bir doktorun tek bir günlük doluluk haritası
+ *
+ * Günü dakika bazında bir bit dizisi olarak modeller (1440 bit = 23 long).
+ * Set edilmiş bir bit, o dakikanın dolu olduğunu (randevu, öğle arası vb.) gösterir.
+ * Aralık işaretleme ve boşluk kontrolü kelime (word) işlemleriyle yapılır.
+ */
+public final class DayOccupancy {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int WORDS = (MINUTES_PER_DAY + 63) >>> 6;
+
+    private final long[] words;
+
+    public DayOccupancy() {
+        this.words = new long[WORDS];
+    }
+
+    private DayOccupancy(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Mevcut doluluk haritasının bağımsız bir kopyasını döndürür
+     *
+     * @return Kopya doluluk haritası
+     */
+    public DayOccupancy copy() {
+        return new DayOccupancy(words.clone());
+    }
+
+    /**
+     * [fromMinute, toMinute) aralığındaki dakikaları dolu olarak işaretler
+     * Gün sınırlarının dışına taşan kısımlar kırpılır
+     *
+     * @param fromMinute Başlangıç dakikası (dahil)
+     * @param toMinute Bitiş dakikası (hariç)
+     */
+    public void occupy(int fromMinute, int toMinute) {
+        int from = Math.max(fromMinute, 0);
+        int to = Math.min(toMinute, MINUTES_PER_DAY);
+        if (from >= to) return;
+
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int i = firstWord + 1; i < lastWord; i++) words[i] = -1L;
+        words[lastWord] |= lastMask;
+    }
+
+    /**
+     * Başka bir doluluk haritasını bu haritaya ekler (bitwise OR)
+     *
+     * @param other Eklenecek doluluk haritası
+     */
+    public void or(DayOccupancy other) {
+        for (int i = 0; i < WORDS; i++) words[i] |= other.words[i];
+    }
+
+    /**
+     * [fromMinute, toMinute) aralığında hiç dolu dakika olmadığını kontrol eder
+     * Gün sınırlarının dışına taşan aralıklar boş kabul edilmez
+     *
+     * @param fromMinute Başlangıç dakikası (dahil)
+     * @param toMinute Bitiş dakikası (hariç)
+     * @return Aralık tamamen boşsa true
+     */
+    public boolean isFree(int fromMinute, int toMinute) {
+        if (fromMinute < 0 || toMinute > MINUTES_PER_DAY || fromMinute >= toMinute) return false;
+
+        int firstWord = fromMinute >>> 6;
+        int lastWord = (toMinute - 1) >>> 6;
+        long firstMask = -1L << fromMinute;
+        long lastMask = -1L >>> -toMinute;
+
+        if (firstWord == lastWord) return (words[firstWord] & firstMask & lastMask) == 0;
+        if ((words[firstWord] & firstMask) != 0) return false;
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            if (words[i] != 0) return false;
+        }
+        return (words[lastWord] & lastMask) == 0;
+    }
+}
@@ -0,0 +1,15 @@
+package com.clinic.appointmentsystem.application.availability;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DoctorDay - Doktor ve gün anahtarı
+ *
+ * Önbellek, abonelik ve kilit gibi doktor-gün bazlı yapılarda anahtar olarak kullanılır.
+ */
+public record DoctorDay(
+        UUID doctorId,
+        LocalDate date
+) {
+}
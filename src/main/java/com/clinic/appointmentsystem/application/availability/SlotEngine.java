@@ -0,0 +1,143 @@
+package com.clinic.appointmentsystem.application.availability;
+
+import com.clinic.appointmentsystem.persistence.projections.BookedSlot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SlotEngine - Müsait zaman dilimi hesaplama motoru
+ *
+ * Doktorun günlük programına karşılık gelen {@link SlotTemplate} şablonundan bir {@link DayOccupancy}
+ * bit dizisi üretir, dolu randevuları bu diziye ekler ve boş kalan zaman dilimlerini
+ * "HH:mm" etiketleriyle döndürür. Etiketler önceden hesaplanır, her istekte String üretilmez.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotEngine {
+
+    // Günün her dakikası için önceden hesaplanmış "HH:mm" etiketleri
+    private static final String[] LABELS = new String[DayOccupancy.MINUTES_PER_DAY];
+
+    static {
+        for (int m = 0; m < LABELS.length; m++) {
+            LABELS[m] = String.format("%02d:%02d", m / 60, m % 60);
+        }
+    }
+
+    private final SlotTemplateRegistry templates;
+
+    /**
+     * Dakika cinsinden gün içi zamanı "HH:mm" etiketine çevirir
+     *
+     * @param minuteOfDay Gün içi dakika
+     * @return "HH:mm" formatında etiket
+     */
+    public static String label(int minuteOfDay) {
+        return LABELS[minuteOfDay];
+    }
+
+    /**
+     * Saati gün içi dakikaya çevirir
+     *
+     * @param time Saat
+     * @return Gün içi dakika
+     */
+    public static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Doktor programının randevu içermeyen tüm zaman dilimlerini döndürür
+     *
+     * @param schedule Doktorun çalışma günü
+     * @return Değişmez zaman dilimi listesi (HH:mm formatında)
+     */
+    public List<String> allSlots(WorkingDay schedule) {
+        return templates.lookup(schedule).labels();
+    }
+
+    /**
+     * Doktor programının sabit doluluk haritasını (öğle arası) oluşturur
+     *
+     * @param schedule Doktorun çalışma günü
+     * @return Randevu içermeyen temel doluluk haritası
+     */
+    public DayOccupancy baseOccupancy(WorkingDay schedule) {
+        return templates.lookup(schedule).newOccupancy();
+    }
+
+    /**
+     * Dolu randevuları kendi başlangıç-bitiş aralıklarıyla doluluk haritasına ekler
+     *
+     * @param occupancy Doluluk haritası
+     * @param bookings O günkü dolu randevular
+     */
+    public void occupyBookings(DayOccupancy occupancy, Collection<BookedSlot> bookings) {
+        for (BookedSlot booking : bookings) {
+            int minute = minuteOfDay(booking.appointmentTime().toLocalTime());
+            long length = Duration.between(booking.appointmentTime(), booking.endTime()).toMinutes();
+            occupancy.occupy(minute, (int) Math.min(minute + length, DayOccupancy.MINUTES_PER_DAY));
+        }
+    }
+
+    /**
+     * Programa ve doluluk haritasına göre boş zaman dilimlerinin başlangıç dakikalarını hesaplar
+     *
+     * @param schedule Doktorun çalışma günü
+     * @param occupancy Doluluk haritası (öğle arası ve randevular dahil)
+     * @return Boş zaman dilimlerinin gün içi başlangıç dakikaları (artan sırada)
+     */
+    public int[] freeSlotMinutes(WorkingDay schedule, DayOccupancy occupancy) {
+        SlotTemplate template = templates.lookup(schedule);
+        int duration = template.durationMinutes();
+
+        int[] slots = new int[template.size()];
+        int count = 0;
+        for (int i = 0; i < template.size(); i++) {
+            int slot = template.slotMinute(i);
+            if (occupancy.isFree(slot, slot + duration)) slots[count++] = slot;
+        }
+        return count == slots.length ? slots : Arrays.copyOf(slots, count);
+    }
+
+    /**
+     * Programa ve doluluk haritasına göre boş zaman dilimlerini hesaplar
+     *
+     * @param schedule Doktorun çalışma günü
+     * @param occupancy Doluluk haritası (öğle arası ve randevular dahil)
+     * @return Müsait zaman dilimlerinin listesi (HH:mm formatında)
+     */
+    public List<String> freeSlots(WorkingDay schedule, DayOccupancy occupancy) {
+        SlotTemplate template = templates.lookup(schedule);
+        int duration = template.durationMinutes();
+
+        List<String> slots = new ArrayList<>(template.size());
+        for (int i = 0; i < template.size(); i++) {
+            int slot = template.slotMinute(i);
+            if (occupancy.isFree(slot, slot + duration)) slots.add(template.labels().get(i));
+        }
+        return slots;
+    }
+
+    /**
+     * Belirli bir gün için müsait zaman dilimlerini hesaplar
+     *
+     * @param schedule Doktorun çalışma günü
+     * @param bookings O günkü dolu randevular
+     * @return Müsait zaman dilimlerinin listesi (HH:mm formatında)
+     */
+    public List<String> availableSlots(WorkingDay schedule, Collection<BookedSlot> bookings) {
+        if (bookings.isEmpty()) return allSlots(schedule);
+
+        DayOccupancy occupancy = baseOccupancy(schedule);
+        occupyBookings(occupancy, bookings);
+        return freeSlots(schedule, occupancy);
+    }
+}
@@ -0,0 +1,111 @@
+package com.clinic.appointmentsystem.application.availability;
+
+import com.clinic.appointmentsystem.domain.enums.ShiftType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SlotTemplate - Değişmez zaman dilimi şablonu
+ *
+ * Belirli bir vardiya penceresi ve randevu süresi için tüm zaman dilimlerinin başlangıç
+ * dakikalarını, "HH:mm" etiketlerini ve öğle arasını içeren temel doluluk haritasını tutar.
+ * Aynı vardiya ve süreye sahip tüm doktorlar aynı şablonu paylaşır.
+ */
+public final class SlotTemplate {
+
+    // Öğle arası zaman dilimi (12:00-13:00)
+    static final int LUNCH_BREAK_START = 12 * 60;
+    static final int LUNCH_BREAK_END = 13 * 60;
+
+    private final ShiftType shiftType;
+    private final int startMinute;
+    private final int endMinute;
+    private final int durationMinutes;
+    private final int[] slotMinutes;
+    private final List<String> labels;
+    private final DayOccupancy baseOccupancy;
+
+    private SlotTemplate(ShiftType shiftType, int startMinute, int endMinute, int durationMinutes) {
+        this.shiftType = shiftType;
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+        this.durationMinutes = durationMinutes;
+
+        // Tam gün vardiyasında öğle arası dolu kabul edilir
+        this.baseOccupancy = new DayOccupancy();
+        if (shiftType == ShiftType.FULL_DAY) baseOccupancy.occupy(LUNCH_BREAK_START, LUNCH_BREAK_END);
+
+        // Öğle arasıyla çakışmayan tüm zaman dilimlerini hesapla
+        int[] minutes = new int[Math.max((endMinute - startMinute) / durationMinutes, 0)];
+        List<String> slotLabels = new ArrayList<>(minutes.length);
+        int count = 0;
+        for (int slot = startMinute; slot + durationMinutes <= endMinute; slot += durationMinutes) {
+            if (baseOccupancy.isFree(slot, slot + durationMinutes)) {
+                minutes[count++] = slot;
+                slotLabels.add(SlotEngine.label(slot));
+            }
+        }
+        this.slotMinutes = Arrays.copyOf(minutes, count);
+        this.labels = Collections.unmodifiableList(slotLabels);
+    }
+
+    /**
+     * Verilen vardiya penceresi ve süre için yeni bir şablon hesaplar
+     *
+     * @param shiftType Vardiya türü
+     * @param startMinute Vardiya başlangıç dakikası
+     * @param endMinute Vardiya bitiş dakikası
+     * @param durationMinutes Randevu süresi (dakika)
+     * @return Hesaplanan şablon
+     */
+    static SlotTemplate compute(ShiftType shiftType, int startMinute, int endMinute, int durationMinutes) {
+        return new SlotTemplate(shiftType, startMinute, endMinute, durationMinutes);
+    }
+
+    /**
+     * Şablonun verilen vardiya penceresi ve süre ile eşleşip eşleşmediğini kontrol eder
+     */
+    boolean matches(int startMinute, int endMinute, int durationMinutes) {
+        return this.startMinute == startMinute && this.endMinute == endMinute && this.durationMinutes == durationMinutes;
+    }
+
+    public ShiftType shiftType() {
+        return shiftType;
+    }
+
+    public int durationMinutes() {
+        return durationMinutes;
+    }
+
+    /**
+     * @return Zaman dilimi sayısı
+     */
+    public int size() {
+        return slotMinutes.length;
+    }
+
+    /**
+     * @param index Zaman dilimi sırası
+     * @return Zaman diliminin gün içi başlangıç dakikası
+     */
+    public int slotMinute(int index) {
+        return slotMinutes[index];
+    }
+
+    /**
+     * @return Tüm zaman dilimlerinin değişmez "HH:mm" etiket listesi
+     */
+    public List<String> labels() {
+        return labels;
+    }
+
+    /**
+     * @return Öğle arasını içeren temel doluluk haritasının yeni bir kopyası
+     */
+    public DayOccupancy newOccupancy() {
+        return baseOccupancy.copy();
+    }
+}
@@ -0,0 +1,56 @@
+package com.clinic.appointmentsystem.application.availability;
+
+import com.clinic.appointmentsystem.domain.enums.ShiftType;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * SlotTemplateRegistry - Vardiya ve süreye göre önceden hesaplanmış zaman dilimi şablonları
+ *
+ * Uygulama başlarken 3 vardiya türü ve geçerli 8 randevu süresi (15-120 dakika, 15'in katları)
+ * için tüm şablonlar bir kez hesaplanır. Zaman dilimi üretimi böylece tablo okumasına dönüşür.
+ * Standart pencere dışında kalan eski kayıtlar için şablon anlık olarak hesaplanır.
+ */
+@Component
+public class SlotTemplateRegistry {
+
+    // Geçerli randevu süreleri (DoctorScheduleService.validateAppointmentDuration ile uyumlu)
+    private static final int MIN_DURATION = 15;
+    private static final int MAX_DURATION = 120;
+    private static final int DURATION_STEP = 15;
+
+    private final Map<ShiftType, SlotTemplate[]> templates = new EnumMap<>(ShiftType.class);
+
+    public SlotTemplateRegistry() {
+        for (ShiftType shift : ShiftType.values()) {
+            SlotTemplate[] byDuration = new SlotTemplate[MAX_DURATION / DURATION_STEP + 1];
+            for (int duration = MIN_DURATION; duration <= MAX_DURATION; duration += DURATION_STEP) {
+                byDuration[duration / DURATION_STEP] =
+                        SlotTemplate.compute(shift, SlotEngine.minuteOfDay(shift.getStartTime()),
+                                SlotEngine.minuteOfDay(shift.getEndTime()), duration);
+            }
+            templates.put(shift, byDuration);
+        }
+    }
+
+    /**
+     * Doktor programına karşılık gelen zaman dilimi şablonunu döndürür
+     *
+     * @param schedule Doktorun çalışma günü
+     * @return Önceden hesaplanmış veya anlık hesaplanan şablon
+     */
+    public SlotTemplate lookup(WorkingDay schedule) {
+        int start = SlotEngine.minuteOfDay(schedule.startTime());
+        int end = SlotEngine.minuteOfDay(schedule.endTime());
+        int duration = schedule.appointmentDurationMinutes();
+
+        if (duration >= MIN_DURATION && duration <= MAX_DURATION && duration % DURATION_STEP == 0) {
+            SlotTemplate template = templates.get(schedule.shiftType())[duration / DURATION_STEP];
+            if (template.matches(start, end, duration)) return template;
+        }
+        // Standart dışı program: şablonu anlık hesapla
+        return SlotTemplate.compute(schedule.shiftType(), start, end, duration);
+    }
+}
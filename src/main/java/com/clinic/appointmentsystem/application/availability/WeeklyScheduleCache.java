@@ -0,0 +1,85 @@
+package com.clinic.appointmentsystem.application.availability;
+
+import com.clinic.appointmentsystem.application.events.ScheduleChangeEvent;
+import com.clinic.appointmentsystem.infrastructure.cache.BoundedLruCache;
+import com.clinic.appointmentsystem.persistence.repositories.DoctorScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WeeklyScheduleCache - Doktor bazlı haftalık çalışma programı önbelleği
+ *
+ * Bir doktorun tüm çalışma günleri tek sorguda yüklenir ve {@link WeeklyTemplate} olarak bellekte tutulur.
+ * Program oluşturma, güncelleme ve silme işlemlerinin yayınladığı {@link ScheduleChangeEvent}
+ * işlem tamamlandıktan sonra doktorun şablonunu önbellekten çıkarır.
+ */
+@Component
+public class WeeklyScheduleCache {
+
+    private final DoctorScheduleRepository scheduleRepo;
+    private final BoundedLruCache<UUID, WeeklyTemplate> templates;
+
+    // Devam eden yüklemelerin doktor bazlı belirteçleri; geçersiz kılma belirteci siler,
+    // belirteci silinmiş yüklemenin sonucu önbelleğe yazılmaz
+    private final Map<UUID, Object> loading = new ConcurrentHashMap<>();
+
+    public WeeklyScheduleCache(DoctorScheduleRepository scheduleRepo,
+                               @Value("${appointment.schedule-cache.max-entries:5000}") int maxEntries,
+                               @Value("${appointment.schedule-cache.ttl-seconds:3600}") long ttlSeconds) {
+        this.scheduleRepo = scheduleRepo;
+        this.templates = new BoundedLruCache<>(maxEntries, ttlSeconds * 1000);
+    }
+
+    /**
+     * Doktorun belirli bir gündeki çalışma programını döndürür
+     *
+     * @param doctorId Doktor ID'si
+     * @param dayOfWeek Haftanın günü
+     * @return Çalışma programı, doktor o gün çalışmıyorsa null
+     */
+    public WorkingDay workingDay(UUID doctorId, DayOfWeek dayOfWeek) {
+        return template(doctorId).day(dayOfWeek);
+    }
+
+    /**
+     * Doktorun haftalık program şablonunu döndürür
+     *
+     * @param doctorId Doktor ID'si
+     * @return Haftalık şablon (çalışma günü yoksa boş)
+     */
+    public WeeklyTemplate template(UUID doctorId) {
+        WeeklyTemplate cached = templates.get(doctorId);
+        if (cached != null) return cached;
+
+        Object token = new Object();
+        loading.put(doctorId, token);
+        WeeklyTemplate loaded;
+        try {
+            loaded = WeeklyTemplate.of(scheduleRepo.findAllWorkingDaysByDoctorId(doctorId));
+        } catch (RuntimeException e) {
+            loading.remove(doctorId, token);
+            throw e;
+        }
+        synchronized (this) {
+            if (loading.remove(doctorId, token)) templates.put(doctorId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Program değişikliğinde doktorun haftalık şablonunu önbellekten çıkarır
+     *
+     * @param event Program değişiklik olayı
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onScheduleChange(ScheduleChangeEvent event) {
+        loading.remove(event.doctorId());
+        templates.remove(event.doctorId());
+    }
+}
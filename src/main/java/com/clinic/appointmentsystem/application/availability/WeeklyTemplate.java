@@ -0,0 +1,73 @@
+package com.clinic.appointmentsystem.application.availability;
+
+import com.clinic.appointmentsystem.domain.entities.DoctorSchedule;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * WeeklyTemplate - Bir doktorun haftalık çalışma programı şablonu
+ *
+ * Haftanın her günü için {@link DayOfWeek#ordinal()} ile erişilen 7 elemanlı bir {@link WorkingDay} dizisi tutar.
+ * Elemanlar değişmez olduğu için şablon iş parçacıkları arasında güvenle paylaşılır.
+ */
+public final class WeeklyTemplate {
+
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    private final WorkingDay[] days = new WorkingDay[DAYS.length];
+
+    private WeeklyTemplate() {
+    }
+
+    /**
+     * Doktorun çalışma günlerinden şablon oluşturur
+     *
+     * @param workingDays Doktorun çalışma günü programları
+     * @return Haftalık şablon
+     */
+    public static WeeklyTemplate of(Collection<DoctorSchedule> workingDays) {
+        WeeklyTemplate template = new WeeklyTemplate();
+        for (DoctorSchedule schedule : workingDays) {
+            template.days[schedule.getDayOfWeek().ordinal()] = WorkingDay.of(schedule);
+        }
+        return template;
+    }
+
+    /**
+     * Belirli bir günün çalışma programını döndürür
+     *
+     * @param dayOfWeek Haftanın günü
+     * @return Çalışma programı, doktor o gün çalışmıyorsa null
+     */
+    public WorkingDay day(DayOfWeek dayOfWeek) {
+        return days[dayOfWeek.ordinal()];
+    }
+
+    /**
+     * Doktorun hiç çalışma günü olup olmadığını kontrol eder
+     *
+     * @return Çalışma günü yoksa true
+     */
+    public boolean isEmpty() {
+        for (WorkingDay day : days) {
+            if (day != null) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Çalışma günlerini pazartesiden başlayarak sırayla döndürür
+     *
+     * @return Çalışma günü programları
+     */
+    public List<WorkingDay> workingDays() {
+        List<WorkingDay> result = new ArrayList<>(DAYS.length);
+        for (WorkingDay day : days) {
+            if (day != null) result.add(day);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,39 @@
+package com.clinic.appointmentsystem.application.availability;
+
+import com.clinic.appointmentsystem.domain.entities.DoctorSchedule;
+import com.clinic.appointmentsystem.domain.enums.ShiftType;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * WorkingDay - Doktorun bir çalışma gününün değişmez programı
+ *
+ * Müsaitlik hesaplamaları ve randevu doğrulaması entity yerine bu değeri kullanır.
+ * Yönetilen entity'ye bağlı olmadığı için önbellekte tutulup iş parçacıkları arasında paylaşılabilir.
+ *
+ * @param dayOfWeek Haftanın günü
+ * @param shiftType Vardiya türü
+ * @param startTime Vardiyanın başlangıç saati
+ * @param endTime Vardiyanın bitiş saati
+ * @param appointmentDurationMinutes Randevu süresi (dakika)
+ */
+public record WorkingDay(
+        DayOfWeek dayOfWeek,
+        ShiftType shiftType,
+        LocalTime startTime,
+        LocalTime endTime,
+        int appointmentDurationMinutes
+) {
+
+    /**
+     * Çalışma günü programından değer oluşturur
+     *
+     * @param schedule Doktor programı (çalışma günü)
+     * @return Değişmez çalışma günü
+     */
+    public static WorkingDay of(DoctorSchedule schedule) {
+        return new WorkingDay(schedule.getDayOfWeek(), schedule.getShiftType(), schedule.getStartTime(),
+                schedule.getEndTime(), schedule.getAppointmentDurationMinutes());
+    }
+}
@@ -0,0 +1,61 @@
+package com.clinic.appointmentsystem.application.booking;
+
+import com.clinic.appointmentsystem.application.availability.DoctorDay;
+import com.clinic.appointmentsystem.persistence.repositories.AppointmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * AdvisoryBookingLock - Birden fazla sunucu için PostgreSQL advisory kilidi
+ *
+ * Doktor-gün anahtarı için pg_advisory_xact_lock alır. Kilit veritabanında tutulduğu için
+ * yük dengeleyici arkasındaki tüm sunucular aynı doktor-günün yazma işlemlerini sıraya sokar.
+ * Kilit işlem sonunda veritabanı tarafından bırakılır; ayrıca bırakma adımı gerekmez.
+ * Doktor ID'si 32 bite indirgendiği için farklı doktorlar aynı anahtarı paylaşabilir; bu yüzden
+ * toplu kilitleme doktor ID'sine göre değil, veritabanına gönderilen anahtar çiftine göre sıralanır.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "appointment.booking.lock-mode", havingValue = "advisory")
+public class AdvisoryBookingLock implements BookingLock {
+
+    private final AppointmentRepository appointmentRepo;
+
+    @Override
+    public void lock(DoctorDay key) {
+        lockKey(lockKey(key));
+    }
+
+    @Override
+    public void lockAll(Collection<DoctorDay> keys) {
+        // Anahtarları çakışan doktor-günler tek kilit sayılır, tüm çağıranlar aynı sırayla kilitler
+        keys.stream()
+                .mapToLong(AdvisoryBookingLock::lockKey)
+                .distinct()
+                .sorted()
+                .forEach(this::lockKey);
+    }
+
+    private void lockKey(long key) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive())
+            throw new IllegalStateException("Booking lock requires an active transaction");
+
+        appointmentRepo.lockDoctorDay((int) (key >> 32), (int) key);
+    }
+
+    // pg_advisory_xact_lock(int, int) anahtar çifti tek bir long değerde: üst 32 bit doktor, alt 32 bit gün
+    private static long lockKey(DoctorDay key) {
+        return (long) doctorKey(key.doctorId()) << 32 | (key.date().toEpochDay() & 0xFFFFFFFFL);
+    }
+
+    // 128 bitlik UUID'yi 32 bitlik kilit anahtarına indirger; çakışan anahtarlar sadece fazladan bekleme yaratır
+    private static int doctorKey(UUID doctorId) {
+        long bits = doctorId.getMostSignificantBits() ^ doctorId.getLeastSignificantBits();
+        return (int) (bits ^ (bits >>> 32));
+    }
+}
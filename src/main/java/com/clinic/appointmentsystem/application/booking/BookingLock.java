@@ -0,0 +1,38 @@
+package com.clinic.appointmentsystem.application.booking;
+
+import com.clinic.appointmentsystem.application.availability.DoctorDay;
+
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * BookingLock - Randevu yazma işlemlerini doktor bazında sıraya sokan kilit
+ *
+ * Randevu oluşturma ve yeniden planlama işlemleri çakışma kontrolünden önce bu kilidi alır.
+ * Alınan kilit, aktif veritabanı işlemi (transaction) tamamlanana kadar tutulur.
+ * Kullanılacak uygulama appointment.booking.lock-mode ayarıyla seçilir.
+ */
+public interface BookingLock {
+
+    /**
+     * Doktor-gün için kilidi alır, kilit aktif işlemin sonunda bırakılır
+     *
+     * @param key Doktor-gün anahtarı
+     * @throws IllegalStateException Kilit zamanında alınamazsa (APPT_BOOKING_BUSY)
+     */
+    void lock(DoctorDay key);
+
+    /**
+     * Birden fazla doktor-gün için kilitleri sabit bir sırayla alır
+     * Tüm çağıranlar aynı sırayı kullandığı için toplu işlemler birbirini kilitlenmeye (deadlock) sokmaz
+     *
+     * @param keys Doktor-gün anahtarları
+     * @throws IllegalStateException Kilitlerden biri zamanında alınamazsa (APPT_BOOKING_BUSY)
+     */
+    default void lockAll(Collection<DoctorDay> keys) {
+        keys.stream()
+                .distinct()
+                .sorted(Comparator.comparing(DoctorDay::doctorId).thenComparing(DoctorDay::date))
+                .forEach(this::lock);
+    }
+}
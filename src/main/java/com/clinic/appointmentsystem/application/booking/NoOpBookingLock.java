@@ -0,0 +1,20 @@
+package com.clinic.appointmentsystem.application.booking;
+
+import com.clinic.appointmentsystem.application.availability.DoctorDay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * NoOpBookingLock - Kilitsiz randevu yazma modu (varsayılan)
+ *
+ * Çakışmalar sadece veritabanındaki exclusion kısıtı ile engellenir.
+ */
+@Component
+@ConditionalOnProperty(name = "appointment.booking.lock-mode", havingValue = "none", matchIfMissing = true)
+public class NoOpBookingLock implements BookingLock {
+
+    @Override
+    public void lock(DoctorDay key) {
+        // Kilit alınmaz
+    }
+}
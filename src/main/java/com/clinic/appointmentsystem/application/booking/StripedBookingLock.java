@@ -0,0 +1,105 @@
+package com.clinic.appointmentsystem.application.booking;
+
+import com.clinic.appointmentsystem.application.availability.DoctorDay;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * StripedBookingLock - Tek sunucu için doktor bazlı şeritli (striped) kilit
+ *
+ * Sabit boyutlu bir adil (fair) kilit dizisi kullanır; doktor ID'sinin hash değeri şeridi belirler.
+ * Aynı doktorun yazma işlemleri geliş sırasıyla işlenir, farklı şeritteki doktorlar birbirini beklemez.
+ * Her şerit için bekleme süresi (appointment.booking.lock.wait) ve kuyruk uzunluğu
+ * (appointment.booking.lock.queue) actuator metrikleri olarak yayınlanır.
+ */
+@Component
+@ConditionalOnProperty(name = "appointment.booking.lock-mode", havingValue = "striped")
+public class StripedBookingLock implements BookingLock {
+
+    private final ReentrantLock[] stripes;
+    private final Timer[] waitTimers;
+    private final long timeoutMillis;
+
+    public StripedBookingLock(MeterRegistry meterRegistry,
+                              @Value("${appointment.booking.lock-stripes:64}") int stripeCount,
+                              @Value("${appointment.booking.lock-timeout-ms:5000}") long timeoutMillis) {
+        if (stripeCount <= 0)
+            throw new IllegalArgumentException("appointment.booking.lock-stripes must be positive");
+        this.stripes = new ReentrantLock[stripeCount];
+        this.waitTimers = new Timer[stripeCount];
+        this.timeoutMillis = timeoutMillis;
+
+        for (int i = 0; i < stripeCount; i++) {
+            ReentrantLock stripe = new ReentrantLock(true);
+            String tag = Integer.toString(i);
+            stripes[i] = stripe;
+            waitTimers[i] = Timer.builder("appointment.booking.lock.wait")
+                    .description("Randevu kilidi için bekleme süresi")
+                    .tag("stripe", tag)
+                    .register(meterRegistry);
+            Gauge.builder("appointment.booking.lock.queue", stripe, ReentrantLock::getQueueLength)
+                    .description("Randevu kilidini bekleyen iş parçacığı sayısı")
+                    .tag("stripe", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void lock(DoctorDay key) {
+        lockStripe(stripeOf(key));
+    }
+
+    /**
+     * Şeritleri artan sıra numarasıyla alır; farklı doktorlar aynı şeride düşse bile sıra tutarlı kalır
+     */
+    @Override
+    public void lockAll(Collection<DoctorDay> keys) {
+        keys.stream()
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .forEach(this::lockStripe);
+    }
+
+    private int stripeOf(DoctorDay key) {
+        return Math.floorMod(key.doctorId().hashCode(), stripes.length);
+    }
+
+    private void lockStripe(int index) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            throw new IllegalStateException("Booking lock requires an active transaction");
+
+        ReentrantLock stripe = stripes[index];
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = stripe.tryLock(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            waitTimers[index].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired)
+            throw new IllegalStateException("APPT_BOOKING_BUSY");
+
+        // Kilit işlem commit/rollback edildikten sonra bırakılır
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                stripe.unlock();
+            }
+        });
+    }
+}
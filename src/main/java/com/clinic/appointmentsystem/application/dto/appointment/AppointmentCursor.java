@@ -0,0 +1,44 @@
+package com.clinic.appointmentsystem.application.dto.appointment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Randevu listelerinde sayfa sınırını belirten imleç
+ * İstemciye opak bir metin olarak gönderilir; sayfa (randevu zamanı, ID) sırasında bu randevudan sonra devam eder
+ *
+ * @param appointmentTime Önceki sayfanın son randevusunun zamanı
+ * @param id Önceki sayfanın son randevusunun ID'si
+ */
+public record AppointmentCursor(LocalDateTime appointmentTime, UUID id) {
+
+    /**
+     * İmleci URL içinde güvenle taşınabilecek metne çevirir
+     *
+     * @return Base64 (URL uyumlu) imleç
+     */
+    public String encode() {
+        String raw = appointmentTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * İstemciden gelen imleci çözer
+     *
+     * @param cursor Base64 (URL uyumlu) imleç
+     * @return Çözülen imleç
+     * @throws IllegalArgumentException İmleç geçersizse
+     */
+    public static AppointmentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new AppointmentCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("INVALID_CURSOR");
+        }
+    }
+}
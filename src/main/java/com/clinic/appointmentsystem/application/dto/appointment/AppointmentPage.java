@@ -0,0 +1,15 @@
+package com.clinic.appointmentsystem.application.dto.appointment;
+
+import java.util.List;
+
+/**
+ * AppointmentPage - İmleç tabanlı randevu sayfası DTO'su
+ * 
+ * Bu DTO randevu listelerini sayfalı döndürmek için kullanılır.
+ * Sonraki sayfa için nextCursor değeri "cursor" parametresi olarak gönderilir, son sayfada null'dır.
+ */
+public record AppointmentPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+}
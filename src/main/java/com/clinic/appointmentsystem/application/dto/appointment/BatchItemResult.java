@@ -0,0 +1,21 @@
+package com.clinic.appointmentsystem.application.dto.appointment;
+
+import java.util.UUID;
+
+/**
+ * Toplu randevu oluşturma isteğindeki tek bir kalemin sonucu
+ *
+ * @param index İstek listesindeki sıra (0'dan başlar)
+ * @param id Oluşturulan randevunun ID'si (başarısızsa null)
+ * @param error Hata kodu (başarılıysa null)
+ */
+public record BatchItemResult(int index, UUID id, String error) {
+
+    public static BatchItemResult created(int index, UUID id) {
+        return new BatchItemResult(index, id, null);
+    }
+
+    public static BatchItemResult failed(int index, String error) {
+        return new BatchItemResult(index, null, error);
+    }
+}
@@ -0,0 +1,16 @@
+package com.clinic.appointmentsystem.application.dto.appointment;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DailyAvailabilityView - Günlük müsaitlik görünüm DTO'su
+ * 
+ * Bu DTO tarih aralığı sorgularında her gün için müsait zaman dilimlerini döndürmek için kullanılır.
+ * Doktorun çalışmadığı günlerde zaman dilimi listesi boştur.
+ */
+public record DailyAvailabilityView(
+        LocalDate date,
+        List<String> slots
+) {
+}
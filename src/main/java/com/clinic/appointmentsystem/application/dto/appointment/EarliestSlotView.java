@@ -0,0 +1,17 @@
+package com.clinic.appointmentsystem.application.dto.appointment;
+
+import com.clinic.appointmentsystem.application.dto.user.UserDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * EarliestSlotView - En erken müsait zaman dilimi görünüm DTO'su
+ * 
+ * Bu DTO klinik genelinde en erken boş zaman dilimi aramasının sonuçlarını döndürmek için kullanılır.
+ * Doktor bilgileri ve zaman diliminin başlangıç zamanını içerir.
+ */
+public record EarliestSlotView(
+        UserDto doctor,
+        LocalDateTime appointmentTime
+) {
+}
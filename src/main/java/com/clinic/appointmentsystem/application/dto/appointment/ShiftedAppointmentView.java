@@ -0,0 +1,15 @@
+package com.clinic.appointmentsystem.application.dto.appointment;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Toplu kaydırma sonrası bir randevunun yeni yeri
+ *
+ * @param id Randevu ID'si
+ * @param doctorId Randevunun yeni doktoru
+ * @param previousTime Önceki randevu zamanı
+ * @param appointmentTime Yeni randevu zamanı
+ */
+public record ShiftedAppointmentView(UUID id, UUID doctorId, LocalDateTime previousTime, LocalDateTime appointmentTime) {
+}
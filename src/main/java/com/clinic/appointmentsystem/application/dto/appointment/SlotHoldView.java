@@ -0,0 +1,15 @@
+package com.clinic.appointmentsystem.application.dto.appointment;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Oluşturulan geçici zaman dilimi tutması
+ *
+ * @param id Tutma ID'si
+ * @param doctorId Doktor ID'si
+ * @param appointmentTime Tutulan randevu zamanı
+ * @param expiresAt Tutmanın sona erdiği zaman
+ */
+public record SlotHoldView(UUID id, UUID doctorId, LocalDateTime appointmentTime, LocalDateTime expiresAt) {
+}
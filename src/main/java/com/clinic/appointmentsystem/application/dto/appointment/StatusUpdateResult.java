@@ -0,0 +1,20 @@
+package com.clinic.appointmentsystem.application.dto.appointment;
+
+import java.util.UUID;
+
+/**
+ * Toplu durum güncellemesinde tek bir randevunun sonucu
+ *
+ * @param id Randevu ID'si
+ * @param outcome UPDATED veya NOT_FOUND (randevu yok ya da başka bir doktora ait)
+ */
+public record StatusUpdateResult(UUID id, String outcome) {
+
+    public static StatusUpdateResult updated(UUID id) {
+        return new StatusUpdateResult(id, "UPDATED");
+    }
+
+    public static StatusUpdateResult notFound(UUID id) {
+        return new StatusUpdateResult(id, "NOT_FOUND");
+    }
+}
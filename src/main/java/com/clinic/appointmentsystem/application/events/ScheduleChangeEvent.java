@@ -0,0 +1,16 @@
+package com.clinic.appointmentsystem.application.events;
+
+import java.time.DayOfWeek;
+import java.util.UUID;
+
+/**
+ * ScheduleChangeEvent - Doktor çalışma programı değişiklik olayı
+ * 
+ * Bir doktorun belirli bir gündeki çalışma programı oluşturulduğunda, güncellendiğinde
+ * veya silindiğinde yayınlanır. Dinleyiciler işlem başarıyla tamamlandıktan sonra çalışır.
+ */
+public record ScheduleChangeEvent(
+        UUID doctorId,
+        DayOfWeek dayOfWeek
+) {
+}
@@ -0,0 +1,27 @@
+package com.clinic.appointmentsystem.application.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * SlotChangeEvent - Randevu zaman dilimi değişiklik olayı
+ * 
+ * Bir randevu oluşturulduğunda, yeniden planlandığında, silindiğinde veya reddedildiğinde yayınlanır.
+ * Dinleyiciler işlem (transaction) başarıyla tamamlandıktan sonra çalışır.
+ */
+public record SlotChangeEvent(
+        UUID doctorId,
+        LocalDateTime appointmentTime,
+        Type type
+) {
+
+    public enum Type {BOOKED, RELEASED}
+
+    public static SlotChangeEvent booked(UUID doctorId, LocalDateTime appointmentTime) {
+        return new SlotChangeEvent(doctorId, appointmentTime, Type.BOOKED);
+    }
+
+    public static SlotChangeEvent released(UUID doctorId, LocalDateTime appointmentTime) {
+        return new SlotChangeEvent(doctorId, appointmentTime, Type.RELEASED);
+    }
+}
@@ -0,0 +1,14 @@
+package com.clinic.appointmentsystem.application.events;
+
+import java.util.UUID;
+
+/**
+ * UserEmailChangeEvent - Kullanıcı email değişikliği olayı
+ *
+ * Kullanıcının email adresi güncellendiğinde yayınlanır. Dinleyiciler işlem başarıyla
+ * tamamlandıktan sonra çalışır; geri alınan güncelleme token'ları iptal etmez.
+ */
+public record UserEmailChangeEvent(
+        UUID userId
+) {
+}
@@ -2,34 +2,38 @@ package com.clinic.appointmentsystem.application.mapper;
 
 import com.clinic.appointmentsystem.application.dto.appointment.AppointmentDoctorView;
 import com.clinic.appointmentsystem.application.dto.appointment.AppointmentPatientView;
-import com.clinic.appointmentsystem.domain.entities.Appointment;
+import com.clinic.appointmentsystem.application.dto.user.UserDto;
+import com.clinic.appointmentsystem.persistence.projections.AppointmentListRow;
 import org.mapstruct.Mapper;
-import org.mapstruct.Mapping;
 
 /**
  * AppointmentMapper - Randevu dönüştürücü
  * 
- * Bu mapper Appointment entity'sini çeşitli DTO'lara dönüştürür.
+ * Bu mapper randevu listesi projeksiyonlarını çeşitli DTO'lara dönüştürür.
  * Doktor ve hasta görünümleri için farklı mapping'ler sağlar.
  */
-@Mapper(componentModel = "spring", uses = {UserMapper.class})
+@Mapper(componentModel = "spring")
 public interface AppointmentMapper {
-    
-    @Mapping(target = "id", expression = "java(appointment.getId().toString())")
-    @Mapping(target = "doctor", source = "doctor")
-    @Mapping(target = "appointmentTime", source = "appointmentTime")
-    @Mapping(target = "status", source = "status")
-    @Mapping(target = "note", source = "note")
-    @Mapping(target = "createdAt", source = "createdAt")
-    @Mapping(target = "updatedAt", source = "updatedAt")
-    AppointmentPatientView toPatientView(Appointment appointment);
 
-    @Mapping(target = "id", expression = "java(appointment.getId().toString())")
-    @Mapping(target = "patient", source = "patient")
-    @Mapping(target = "appointmentTime", source = "appointmentTime")
-    @Mapping(target = "status", source = "status")
-    @Mapping(target = "note", source = "note")
-    @Mapping(target = "createdAt", source = "createdAt")
-    @Mapping(target = "updatedAt", source = "updatedAt")
-    AppointmentDoctorView toDoctorView(Appointment appointment);
-}
\ No newline at end of file
+    default AppointmentPatientView toPatientView(AppointmentListRow row) {
+        return new AppointmentPatientView(row.id().toString(), counterpart(row), row.appointmentTime(),
+                row.status(), row.note(), row.createdAt(), row.updatedAt());
+    }
+
+    default AppointmentDoctorView toDoctorView(AppointmentListRow row) {
+        return new AppointmentDoctorView(row.id().toString(), counterpart(row), row.appointmentTime(),
+                row.status(), row.note(), row.createdAt(), row.updatedAt());
+    }
+
+    // Karşı taraf kullanıcısını UserMapper ile aynı biçimde (ID ve zamanlar metin olarak) oluşturur
+    private static UserDto counterpart(AppointmentListRow row) {
+        return new UserDto(
+                row.userId().toString(),
+                row.userEmail(),
+                row.userFirstName(),
+                row.userLastName(),
+                row.userRole() != null ? row.userRole().name() : null,
+                row.userCreatedAt() != null ? row.userCreatedAt().toString() : null,
+                row.userUpdatedAt() != null ? row.userUpdatedAt().toString() : null);
+    }
+}
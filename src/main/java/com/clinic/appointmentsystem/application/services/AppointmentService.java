@@ -1,26 +1,63 @@
 package com.clinic.appointmentsystem.application.services;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.clinic.appointmentsystem.application.availability.AvailabilityCache;
+import com.clinic.appointmentsystem.application.availability.DayOccupancy;
+import com.clinic.appointmentsystem.application.availability.DoctorDay;
+import com.clinic.appointmentsystem.application.availability.SlotEngine;
+import com.clinic.appointmentsystem.application.availability.WeeklyScheduleCache;
+import com.clinic.appointmentsystem.application.availability.WeeklyTemplate;
+import com.clinic.appointmentsystem.application.availability.WorkingDay;
+import com.clinic.appointmentsystem.application.booking.BookingLock;
+import com.clinic.appointmentsystem.application.dto.appointment.AppointmentCursor;
 import com.clinic.appointmentsystem.application.dto.appointment.AppointmentDoctorView;
+import com.clinic.appointmentsystem.application.dto.appointment.AppointmentPage;
 import com.clinic.appointmentsystem.application.dto.appointment.AppointmentPatientView;
+import com.clinic.appointmentsystem.application.dto.appointment.BatchItemResult;
 import com.clinic.appointmentsystem.application.dto.appointment.CreateAppointmentRequest;
+import com.clinic.appointmentsystem.application.dto.appointment.DailyAvailabilityView;
+import com.clinic.appointmentsystem.application.dto.appointment.ShiftedAppointmentView;
+import com.clinic.appointmentsystem.application.dto.appointment.StatusUpdateResult;
+import com.clinic.appointmentsystem.application.events.SlotChangeEvent;
 import com.clinic.appointmentsystem.application.mapper.AppointmentMapper;
 import com.clinic.appointmentsystem.domain.entities.Appointment;
 import com.clinic.appointmentsystem.domain.entities.DoctorSchedule;
+import com.clinic.appointmentsystem.domain.entities.SlotHold;
+import com.clinic.appointmentsystem.domain.entities.User;
 import com.clinic.appointmentsystem.domain.enums.AppointmentStatus;
 import com.clinic.appointmentsystem.domain.enums.ShiftType;
+import com.clinic.appointmentsystem.persistence.ConstraintViolations;
+import com.clinic.appointmentsystem.persistence.projections.AppointmentListRow;
+import com.clinic.appointmentsystem.persistence.projections.BookedSlot;
+import com.clinic.appointmentsystem.persistence.projections.StatusTransition;
 import com.clinic.appointmentsystem.persistence.repositories.AppointmentRepository;
 import com.clinic.appointmentsystem.persistence.repositories.DoctorScheduleRepository;
+import com.clinic.appointmentsystem.persistence.repositories.SlotHoldRepository;
 import com.clinic.appointmentsystem.persistence.repositories.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -41,10 +78,41 @@ public class AppointmentService {
     private static final LocalTime LUNCH_BREAK_START = LocalTime.of(12, 0);
     private static final LocalTime LUNCH_BREAK_END = LocalTime.of(13, 0);
 
+    // Aynı doktorun reddedilmemiş randevularının çakışmasını engelleyen veritabanı kısıtı
+    private static final String TIME_OVERLAP_CONSTRAINT = "ex_doctor_time_overlap";
+
+    // Randevunun hasta ve doktor kullanıcılarına bağlandığı yabancı anahtar kısıtları
+    private static final String PATIENT_FK_CONSTRAINT = "appointments_patient_id_fkey";
+    private static final String DOCTOR_FK_CONSTRAINT = "appointments_doctor_id_fkey";
+
+    // Tek istekte sorgulanabilecek en uzun tarih aralığı (gün)
+    private static final int MAX_RANGE_DAYS = 60;
+
+    // Tek toplu istekte oluşturulabilecek en fazla randevu sayısı
+    private static final int MAX_BATCH_SIZE = 100;
+
+    // Tek toplu durum güncellemesinde gönderilebilecek en fazla randevu ID'si
+    private static final int MAX_BULK_STATUS_SIZE = 500;
+
+    // Randevu listelerinde tek sayfada döndürülebilecek en fazla randevu
+    private static final int MAX_PAGE_SIZE = 200;
+
+    // Tarih filtresi verilmediğinde kullanılan sınırlar ve ilk sayfanın imleç değerleri
+    private static final LocalDateTime MIN_LISTING_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_LISTING_TIME = LocalDateTime.of(9999, 1, 1, 0, 0);
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final Set<AppointmentStatus> ALL_STATUSES = EnumSet.allOf(AppointmentStatus.class);
+
     private final AppointmentRepository repo;
     private final UserRepository userRepo;
     private final AppointmentMapper mapper;
     private final DoctorScheduleRepository scheduleRepo;
+    private final SlotEngine slotEngine;
+    private final AvailabilityCache availabilityCache;
+    private final ApplicationEventPublisher events;
+    private final BookingLock bookingLock;
+    private final SlotHoldRepository holdRepo;
+    private final WeeklyScheduleCache weeklySchedules;
 
     /**
      * Yeni randevu oluşturur
@@ -54,69 +122,195 @@ public class AppointmentService {
      * @throws IllegalArgumentException Geçersiz randevu zamanı veya çakışma durumunda
      */
     public UUID create(CreateAppointmentRequest r) {
-        // Geçmiş tarih kontrolü
-        if (r.appointmentTime().isBefore(LocalDateTime.now())) 
-            throw new IllegalArgumentException("APPT_PAST_DATE");
-
-        // Doktorun o gün çalışıp çalışmadığını kontrol et
-        DoctorSchedule schedule = scheduleRepo.findByDoctorIdAndDayOfWeek(r.doctorId(), r.appointmentTime().getDayOfWeek());
-        if (schedule == null || !schedule.isWorkingDay()) 
-            throw new IllegalArgumentException("DOCTOR_NOT_WORKING");
-
-        // Randevu saatinin çalışma saatleri içinde olup olmadığını kontrol et
-        LocalTime appointmentTime = r.appointmentTime().toLocalTime();
-        if (appointmentTime.isBefore(schedule.getStartTime()) || appointmentTime.isAfter(schedule.getEndTime()))
-            throw new IllegalArgumentException("APPT_OUTSIDE_WORKING_HOURS");
-
-        // Randevu süresi kontrolü
-        validateAppointmentTimeWithDuration(r.appointmentTime(), schedule);
-
-        // Randevu çakışması kontrolü
-        validateAppointmentConflict(r.doctorId(), r.appointmentTime(), schedule.getAppointmentDurationMinutes());
+        // Doktorun o günkü programına göre randevu zamanını doğrula (haftalık program önbellekten okunur)
+        WorkingDay schedule = weeklySchedules.workingDay(r.doctorId(), r.appointmentTime().getDayOfWeek());
+        validateBookingTime(r.appointmentTime(), schedule);
 
-        // Hasta ve doktor bilgilerini al
-        var patient = userRepo.findById(r.patientId()).orElseThrow(() -> new IllegalArgumentException("PATIENT_NOT_FOUND"));
-        var doctor = userRepo.findById(r.doctorId()).orElseThrow(() -> new IllegalArgumentException("DOCTOR_NOT_FOUND"));
-
-        // Yeni randevu oluştur
+        // Hasta ve doktor yüklenmez, referans olarak bağlanır; varlıkları yabancı anahtar kısıtı ile doğrulanır
         var appointment = Appointment.builder()
                 .id(UUID.randomUUID())
-                .patient(patient)
-                .doctor(doctor)
+                .patient(userRepo.getReferenceById(r.patientId()))
+                .doctor(userRepo.getReferenceById(r.doctorId()))
                 .appointmentTime(r.appointmentTime())
+                .endTime(r.appointmentTime().plusMinutes(schedule.appointmentDurationMinutes()))
                 .status(AppointmentStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        repo.save(appointment);
+        // Aynı doktorun yazma işlemlerini sıraya sok (appointment.booking.lock-mode)
+        bookingLock.lock(new DoctorDay(r.doctorId(), r.appointmentTime().toLocalDate()));
+
+        // Başka bir hastanın tuttuğu zaman dilimi alınamaz, hastanın kendi tutması tüketilir
+        consumeHold(r.doctorId(), r.patientId(), r.appointmentTime(), appointment.getEndTime());
+
+        // Çakışma kontrolü veritabanındaki exclusion kısıtı ile yapılır (ek SELECT yok)
+        flushBooking(() -> repo.saveAndFlush(appointment));
+        events.publishEvent(SlotChangeEvent.booked(r.doctorId(), r.appointmentTime()));
         return appointment.getId();
     }
 
     /**
-     * Hastanın randevularını listeler
+     * Birden fazla randevuyu tek işlemde oluşturur
+     * Programlar tek sorguda, dolu randevular doktor başına tek aralık sorgusunda yüklenir.
+     * Kalemler kendi aralarında ve mevcut randevularla bellekte çakışma kontrolünden geçer,
+     * geçerli olanlar JDBC batch ile eklenir. Geçersiz kalemler diğerlerini engellemez.
+     * 
+     * @param requests Randevu oluşturma istekleri (en fazla 100)
+     * @return İstek sırasıyla her kalemin sonucu
+     * @throws IllegalArgumentException Boş veya çok büyük istek listesinde
+     * @throws IllegalStateException Ekleme sırasında eşzamanlı bir randevu ile çakışma oluşursa (tüm işlem geri alınır)
+     */
+    public List<BatchItemResult> createBatch(List<CreateAppointmentRequest> requests) {
+        if (requests.isEmpty() || requests.size() > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("INVALID_BATCH_SIZE");
+
+        // Tüm doktorların haftalık programlarını ve tüm hastaları tek sorguda al
+        Set<UUID> doctorIds = new HashSet<>();
+        Set<UUID> patientIds = new HashSet<>();
+        for (CreateAppointmentRequest r : requests) {
+            if (r.doctorId() != null) doctorIds.add(r.doctorId());
+            if (r.patientId() != null) patientIds.add(r.patientId());
+        }
+        Map<UUID, Map<DayOfWeek, WorkingDay>> schedulesByDoctor = new HashMap<>();
+        for (DoctorSchedule schedule : scheduleRepo.findAllWorkingDaysByDoctorIdIn(doctorIds)) {
+            schedulesByDoctor.computeIfAbsent(schedule.getDoctor().getId(), id -> new EnumMap<>(DayOfWeek.class))
+                    .put(schedule.getDayOfWeek(), WorkingDay.of(schedule));
+        }
+        Map<UUID, User> patients = userRepo.findAllById(patientIds).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+
+        // Kalemleri tek tek doğrula (sorgu yapılmaz)
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateAppointmentRequest r = requests.get(i);
+            try {
+                if (r.patientId() == null || r.doctorId() == null || r.appointmentTime() == null)
+                    throw new IllegalArgumentException("INVALID_REQUEST");
+                if (!patients.containsKey(r.patientId()))
+                    throw new IllegalArgumentException("PATIENT_NOT_FOUND");
+                validateBookingTime(r.appointmentTime(),
+                        schedulesByDoctor.getOrDefault(r.doctorId(), Map.of()).get(r.appointmentTime().getDayOfWeek()));
+                accepted.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = BatchItemResult.failed(i, e.getMessage());
+            }
+        }
+        if (accepted.isEmpty()) return List.of(results);
+
+        // Etkilenen doktor-günleri kilitle (appointment.booking.lock-mode)
+        bookingLock.lockAll(accepted.stream()
+                .map(i -> new DoctorDay(requests.get(i).doctorId(), requests.get(i).appointmentTime().toLocalDate()))
+                .toList());
+
+        // Her doktor için dolu randevuları ve aktif tutmaları tek aralık sorgusunda al, randevuları doluluk haritalarına ekle
+        LocalDateTime now = LocalDateTime.now();
+        Map<DoctorDay, DayOccupancy> occupancy = new HashMap<>();
+        Map<UUID, List<SlotHold>> holdsByDoctor = new HashMap<>();
+        Map<UUID, List<LocalDate>> datesByDoctor = accepted.stream()
+                .map(requests::get)
+                .collect(Collectors.groupingBy(CreateAppointmentRequest::doctorId,
+                        Collectors.mapping(r -> r.appointmentTime().toLocalDate(), Collectors.toList())));
+        datesByDoctor.forEach((doctorId, dates) -> {
+            LocalDate first = Collections.min(dates);
+            LocalDate last = Collections.max(dates);
+            repo.findBookedSlotsByDoctorId(doctorId, first.atStartOfDay(), last.plusDays(1).atStartOfDay()).stream()
+                    .collect(Collectors.groupingBy(slot -> slot.appointmentTime().toLocalDate()))
+                    .forEach((date, bookings) -> slotEngine.occupyBookings(
+                            occupancy.computeIfAbsent(new DoctorDay(doctorId, date), key -> new DayOccupancy()), bookings));
+            holdsByDoctor.put(doctorId,
+                    holdRepo.findActiveHoldsByDoctorId(doctorId, first.atStartOfDay(), last.plusDays(1).atStartOfDay(), now));
+        });
+
+        // Mevcut randevularla, başka hastaların tutmalarıyla ve batch içindeki önceki kalemlerle çakışmayı bellekte kontrol et
+        List<Appointment> appointments = new ArrayList<>(accepted.size());
+        List<SlotHold> consumedHolds = new ArrayList<>();
+        for (int i : accepted) {
+            CreateAppointmentRequest r = requests.get(i);
+            WorkingDay schedule = schedulesByDoctor.get(r.doctorId()).get(r.appointmentTime().getDayOfWeek());
+            DayOccupancy day = occupancy.computeIfAbsent(
+                    new DoctorDay(r.doctorId(), r.appointmentTime().toLocalDate()), key -> new DayOccupancy());
+            int start = SlotEngine.minuteOfDay(r.appointmentTime().toLocalTime());
+            int end = start + schedule.appointmentDurationMinutes();
+            if (!day.isFree(start, end)) {
+                results[i] = BatchItemResult.failed(i, "APPT_TIME_SLOT_BOOKED");
+                continue;
+            }
+            LocalDateTime endTime = r.appointmentTime().plusMinutes(schedule.appointmentDurationMinutes());
+            List<SlotHold> overlappingHolds = holdsByDoctor.get(r.doctorId()).stream()
+                    .filter(hold -> hold.getStartTime().isBefore(endTime) && hold.getEndTime().isAfter(r.appointmentTime()))
+                    .toList();
+            if (overlappingHolds.stream().anyMatch(hold -> !hold.getPatientId().equals(r.patientId()))) {
+                results[i] = BatchItemResult.failed(i, "APPT_SLOT_HELD");
+                continue;
+            }
+            consumedHolds.addAll(overlappingHolds);
+            day.occupy(start, end);
+
+            var appointment = Appointment.builder()
+                    .id(UUID.randomUUID())
+                    .patient(patients.get(r.patientId()))
+                    .doctor(userRepo.getReferenceById(r.doctorId()))
+                    .appointmentTime(r.appointmentTime())
+                    .endTime(endTime)
+                    .status(AppointmentStatus.PENDING)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            appointments.add(appointment);
+            results[i] = BatchItemResult.created(i, appointment.getId());
+        }
+
+        // Tüketilen tutmaları sil, randevuları JDBC batch ile ekle (hibernate.jdbc.batch_size), eşzamanlı çakışmaları kısıt yakalar
+        if (!consumedHolds.isEmpty()) holdRepo.deleteAllInBatch(consumedHolds);
+        repo.saveAll(appointments);
+        flushBooking(repo::flush);
+        for (Appointment appointment : appointments)
+            events.publishEvent(SlotChangeEvent.booked(appointment.getDoctor().getId(), appointment.getAppointmentTime()));
+        return List.of(results);
+    }
+
+    /**
+     * Hastanın randevularını (randevu zamanı, ID) sırasında imleç ile sayfalı listeler
      * 
      * @param patientId Hasta ID'si
-     * @return Hasta randevularının listesi
+     * @param from Başlangıç tarihi (dahil, null ise sınırsız)
+     * @param to Bitiş tarihi (dahil, null ise sınırsız)
+     * @param status Durum filtresi (null ise tüm durumlar)
+     * @param cursor Önceki sayfanın nextCursor değeri (ilk sayfada null)
+     * @param limit Sayfa boyutu (en fazla 200)
+     * @return Hasta randevularının sayfası
+     * @throws IllegalArgumentException Geçersiz tarih aralığı, imleç veya sayfa boyutu durumunda
      */
     @Transactional(readOnly = true)
-    public List<AppointmentPatientView> findByPatient(UUID patientId) {
-        return repo.findByPatientId(patientId).stream()
-                .map(mapper::toPatientView)
-                .toList();
+    public AppointmentPage<AppointmentPatientView> findByPatient(UUID patientId, LocalDate from, LocalDate to,
+                                                                 AppointmentStatus status, String cursor, int limit) {
+        PageBounds b = pageBounds(from, to, status, cursor, limit);
+        List<AppointmentListRow> rows = repo.findPageByPatientId(patientId, b.from(), b.to(), b.statuses(),
+                b.afterTime(), b.afterId(), Limit.of(limit + 1));
+        return toPage(rows, limit, mapper::toPatientView);
     }
 
     /**
-     * Doktorun randevularını listeler
+     * Doktorun randevularını (randevu zamanı, ID) sırasında imleç ile sayfalı listeler
      * 
      * @param doctorId Doktor ID'si
-     * @return Doktor randevularının listesi
+     * @param from Başlangıç tarihi (dahil, null ise sınırsız)
+     * @param to Bitiş tarihi (dahil, null ise sınırsız)
+     * @param status Durum filtresi (null ise tüm durumlar)
+     * @param cursor Önceki sayfanın nextCursor değeri (ilk sayfada null)
+     * @param limit Sayfa boyutu (en fazla 200)
+     * @return Doktor randevularının sayfası
+     * @throws IllegalArgumentException Geçersiz tarih aralığı, imleç veya sayfa boyutu durumunda
      */
     @Transactional(readOnly = true)
-    public List<AppointmentDoctorView> findByDoctor(UUID doctorId) {
-        return repo.findByDoctorId(doctorId).stream()
-                .map(mapper::toDoctorView)
-                .toList();
+    public AppointmentPage<AppointmentDoctorView> findByDoctor(UUID doctorId, LocalDate from, LocalDate to,
+                                                               AppointmentStatus status, String cursor, int limit) {
+        PageBounds b = pageBounds(from, to, status, cursor, limit);
+        List<AppointmentListRow> rows = repo.findPageByDoctorId(doctorId, b.from(), b.to(), b.statuses(),
+                b.afterTime(), b.afterId(), Limit.of(limit + 1));
+        return toPage(rows, limit, mapper::toDoctorView);
     }
 
     /**
@@ -127,8 +321,63 @@ public class AppointmentService {
      */
     public void updateStatus(UUID id, AppointmentStatus status) {
         var appt = repo.findById(id).orElseThrow(() -> new IllegalArgumentException("APPT_NOT_FOUND"));
+        AppointmentStatus previous = appt.getStatus();
         appt.setStatus(status);
         appt.setUpdatedAt(LocalDateTime.now());
+
+        // Reddetme zaman dilimini boşaltır, reddedilmiş randevunun geri alınması tekrar doldurur
+        UUID doctorId = appt.getDoctor().getId();
+        if (previous != AppointmentStatus.REJECTED && status == AppointmentStatus.REJECTED)
+            events.publishEvent(SlotChangeEvent.released(doctorId, appt.getAppointmentTime()));
+        else if (previous == AppointmentStatus.REJECTED && status != AppointmentStatus.REJECTED) {
+            // Zaman dilimi bu arada başka bir randevuya verilmiş olabilir
+            flushBooking(repo::flush);
+            events.publishEvent(SlotChangeEvent.booked(doctorId, appt.getAppointmentTime()));
+        }
+    }
+
+    /**
+     * Doktorun birden fazla randevusunun durumunu tek UPDATE ile günceller
+     * Başka doktorlara ait veya bulunamayan randevular NOT_FOUND olarak raporlanır
+     * 
+     * @param doctorId İşlemi yapan doktorun ID'si
+     * @param ids Randevu ID'leri (en fazla 500)
+     * @param status Yeni durum
+     * @return İstek sırasıyla her randevunun sonucu
+     * @throws IllegalArgumentException Boş veya çok büyük ID listesinde
+     * @throws IllegalStateException Reddedilmiş bir randevunun geri alınması başka bir randevuyla çakışırsa
+     */
+    public List<StatusUpdateResult> updateStatusBulk(UUID doctorId, List<UUID> ids, AppointmentStatus status) {
+        if (ids.isEmpty() || ids.size() > MAX_BULK_STATUS_SIZE)
+            throw new IllegalArgumentException("INVALID_BATCH_SIZE");
+
+        List<StatusTransition> changed = new ArrayList<>();
+        flushBooking(() -> changed.addAll(repo.updateStatusByIds(doctorId, Set.copyOf(ids), status)));
+        publishStatusTransitions(doctorId, changed, status);
+
+        Set<UUID> updated = changed.stream().map(StatusTransition::id).collect(Collectors.toSet());
+        return ids.stream()
+                .map(id -> updated.contains(id) ? StatusUpdateResult.updated(id) : StatusUpdateResult.notFound(id))
+                .toList();
+    }
+
+    /**
+     * Doktorun bir gündeki belirli durumdaki tüm randevularının durumunu tek UPDATE ile günceller
+     * Örneğin bir günün tüm bekleyen (PENDING) randevularını onaylamak için kullanılır
+     * 
+     * @param doctorId İşlemi yapan doktorun ID'si
+     * @param date Gün
+     * @param currentStatus Güncellenecek randevuların mevcut durumu
+     * @param status Yeni durum
+     * @return Güncellenen randevuların sonuçları
+     * @throws IllegalStateException Reddedilmiş randevuların geri alınması başka bir randevuyla çakışırsa
+     */
+    public List<StatusUpdateResult> updateStatusForDay(UUID doctorId, LocalDate date,
+                                                       AppointmentStatus currentStatus, AppointmentStatus status) {
+        List<StatusTransition> changed = new ArrayList<>();
+        flushBooking(() -> changed.addAll(repo.updateStatusByDay(doctorId, date, currentStatus, status)));
+        publishStatusTransitions(doctorId, changed, status);
+        return changed.stream().map(t -> StatusUpdateResult.updated(t.id())).toList();
     }
 
     /**
@@ -152,30 +401,128 @@ public class AppointmentService {
     public void reschedule(UUID id, LocalDateTime newTime) {
         var appt = repo.findById(id).orElseThrow(() -> new IllegalArgumentException("APPT_NOT_FOUND"));
         
-        // Geçmiş tarih kontrolü
-        if (newTime.isBefore(LocalDateTime.now())) 
-            throw new IllegalArgumentException("APPT_PAST_DATE");
+        // Doktorun o günkü programına göre yeni randevu zamanını doğrula (haftalık program önbellekten okunur)
+        WorkingDay schedule = weeklySchedules.workingDay(appt.getDoctor().getId(), newTime.getDayOfWeek());
+        validateBookingTime(newTime, schedule);
 
-        // Doktorun o gün çalışıp çalışmadığını kontrol et
-        DoctorSchedule schedule = scheduleRepo.findByDoctorIdAndDayOfWeek(appt.getDoctor().getId(), newTime.getDayOfWeek());
-        if (schedule == null || !schedule.isWorkingDay()) 
-            throw new IllegalArgumentException("DOCTOR_NOT_WORKING");
+        // Aynı doktorun yazma işlemlerini sıraya sok (appointment.booking.lock-mode)
+        bookingLock.lock(new DoctorDay(appt.getDoctor().getId(), newTime.toLocalDate()));
 
-        // Randevu saatinin çalışma saatleri içinde olup olmadığını kontrol et
-        LocalTime appointmentTime = newTime.toLocalTime();
-        if (appointmentTime.isBefore(schedule.getStartTime()) || appointmentTime.isAfter(schedule.getEndTime()))
-            throw new IllegalArgumentException("APPT_OUTSIDE_WORKING_HOURS");
+        // Başka bir hastanın tuttuğu zaman dilimine taşınamaz, randevu sahibinin tutması tüketilir
+        consumeHold(appt.getDoctor().getId(), appt.getPatient().getId(), newTime,
+                newTime.plusMinutes(schedule.appointmentDurationMinutes()));
 
-        // Randevu süresi kontrolü
-        validateAppointmentTimeWithDuration(newTime, schedule);
-
-        // Randevu çakışması kontrolü (kendi randevusu hariç)
-        validateAppointmentConflictExcludingSelf(appt.getDoctor().getId(), newTime, schedule.getAppointmentDurationMinutes(), id);
+        // Eski zaman dilimini boşalt, yenisini doldur
+        if (appt.getStatus() != AppointmentStatus.REJECTED)
+            events.publishEvent(SlotChangeEvent.released(appt.getDoctor().getId(), appt.getAppointmentTime()));
+        events.publishEvent(SlotChangeEvent.booked(appt.getDoctor().getId(), newTime));
 
         // Randevuyu güncelle
         appt.setAppointmentTime(newTime);
+        appt.setEndTime(newTime.plusMinutes(schedule.appointmentDurationMinutes()));
         appt.setUpdatedAt(LocalDateTime.now());
         appt.setStatus(AppointmentStatus.PENDING);
+
+        // Çakışma kontrolü veritabanındaki exclusion kısıtı ile yapılır (kendi satırı güncellendiği için hariç tutulur)
+        flushBooking(repo::flush);
+    }
+
+    /**
+     * Doktorun bir gündeki tüm randevularını toplu olarak taşır
+     * Randevular dakika cinsinden kaydırılabilir, başka bir güne veya başka bir doktora taşınabilir.
+     * Başlangıç zamanı geçmiş randevular yerinde kalır; yalnızca şu andan sonraki randevular taşınır.
+     * Hedef program tek sorguda, hedef gündeki dolu randevular ve tutmalar tek aralık sorgusunda yüklenir;
+     * tüm küme bellekte doğrulanır ve tek işlemde JDBC batch ile güncellenir. Bir randevu bile
+     * taşınamıyorsa hiçbir randevu değiştirilmez. Yeniden planlamada olduğu gibi durum PENDING olur.
+     * 
+     * @param doctorId Randevuları taşınacak doktorun ID'si
+     * @param date Randevuları taşınacak gün
+     * @param offsetMinutes Dakika cinsinden kaydırma (null ise 0)
+     * @param targetDate Hedef gün (null ise aynı gün)
+     * @param targetDoctorId Hedef doktor (null ise aynı doktor)
+     * @return Taşınan randevular ve yeni zamanları
+     * @throws IllegalArgumentException Hedef zamanlardan biri geçersizse (ör. DOCTOR_NOT_WORKING, APPT_EXCEEDS_WORKING_HOURS)
+     * @throws IllegalStateException Hedef zamanlardan biri dolu veya tutulmuşsa
+     */
+    public List<ShiftedAppointmentView> shiftDay(UUID doctorId, LocalDate date, Integer offsetMinutes,
+                                                 LocalDate targetDate, UUID targetDoctorId) {
+        long offset = offsetMinutes == null ? 0 : offsetMinutes;
+        LocalDate toDate = targetDate == null ? date : targetDate;
+        UUID toDoctorId = targetDoctorId == null ? doctorId : targetDoctorId;
+        boolean sameDay = toDoctorId.equals(doctorId) && toDate.equals(date);
+        if (sameDay && offset == 0)
+            throw new IllegalArgumentException("EMPTY_SHIFT");
+
+        // Hedef doktorun o günkü programını haftalık program önbelleğinden al
+        WorkingDay schedule = weeklySchedules.workingDay(toDoctorId, toDate.getDayOfWeek());
+
+        // Kaynak ve hedef doktor-günleri kilitle (appointment.booking.lock-mode); satırlar kilitten sonra okunur
+        bookingLock.lockAll(List.of(new DoctorDay(doctorId, date), new DoctorDay(toDoctorId, toDate)));
+
+        // Günün randevularını al (reddedilenler hariç); yalnızca henüz başlamamış olanlar taşınır
+        LocalDateTime now = LocalDateTime.now();
+        List<Appointment> appointments = new ArrayList<>();
+        List<BookedSlot> remaining = new ArrayList<>();
+        for (Appointment appt : repo.findByDoctorIdAndDateRange(
+                doctorId, date.atStartOfDay(), date.plusDays(1).atStartOfDay().minusNanos(1))) {
+            if (appt.getAppointmentTime().isBefore(now))
+                remaining.add(new BookedSlot(doctorId, appt.getAppointmentTime(), appt.getEndTime()));
+            else
+                appointments.add(appt);
+        }
+        if (appointments.isEmpty()) return List.of();
+
+        // Hedef gündeki dolu randevuları ve tutmaları tek aralık sorgusunda al; aynı gün içinde kaydırmada yalnızca yerinde kalan geçmiş randevular doludur
+        DayOccupancy occupancy = new DayOccupancy();
+        if (sameDay)
+            slotEngine.occupyBookings(occupancy, remaining);
+        else
+            slotEngine.occupyBookings(occupancy, repo.findBookedSlotsByDoctorId(
+                    toDoctorId, toDate.atStartOfDay(), toDate.plusDays(1).atStartOfDay()));
+        slotEngine.occupyBookings(occupancy, holdRepo.findActiveByDoctorId(
+                toDoctorId, toDate.atStartOfDay(), toDate.plusDays(1).atStartOfDay(), now));
+
+        // Tüm yeni zamanları bellekte doğrula
+        List<LocalDateTime> newTimes = new ArrayList<>(appointments.size());
+        for (Appointment appt : appointments) {
+            LocalDateTime newTime = toDate.atTime(appt.getAppointmentTime().toLocalTime()).plusMinutes(offset);
+            if (!newTime.toLocalDate().equals(toDate))
+                throw new IllegalArgumentException("APPT_OUTSIDE_WORKING_HOURS");
+            validateBookingTime(newTime, schedule);
+
+            int start = SlotEngine.minuteOfDay(newTime.toLocalTime());
+            int end = start + schedule.appointmentDurationMinutes();
+            if (!occupancy.isFree(start, end))
+                throw new IllegalStateException("APPT_TIME_SLOT_BOOKED");
+            occupancy.occupy(start, end);
+            newTimes.add(newTime);
+        }
+
+        // Satırlar ara durumda birbiriyle çakışabileceği için kısıt kontrolünü güncellemeler bitene kadar ertele
+        repo.deferTimeOverlapCheck();
+        List<ShiftedAppointmentView> shifted = new ArrayList<>(appointments.size());
+        for (int i = 0; i < appointments.size(); i++) {
+            Appointment appt = appointments.get(i);
+            LocalDateTime previousTime = appt.getAppointmentTime();
+            LocalDateTime newTime = newTimes.get(i);
+
+            appt.setDoctor(userRepo.getReferenceById(toDoctorId));
+            appt.setAppointmentTime(newTime);
+            appt.setEndTime(newTime.plusMinutes(schedule.appointmentDurationMinutes()));
+            appt.setStatus(AppointmentStatus.PENDING);
+            appt.setUpdatedAt(now);
+
+            events.publishEvent(SlotChangeEvent.released(doctorId, previousTime));
+            events.publishEvent(SlotChangeEvent.booked(toDoctorId, newTime));
+            shifted.add(new ShiftedAppointmentView(appt.getId(), toDoctorId, previousTime, newTime));
+        }
+
+        // JDBC batch ile güncelle (hibernate.order_updates), ardından ertelenen kısıtı hemen kontrol et
+        flushBooking(() -> {
+            repo.flush();
+            repo.checkTimeOverlapNow();
+        });
+        return shifted;
     }
 
     /**
@@ -184,9 +531,10 @@ public class AppointmentService {
      * @param id Randevu ID'si
      */
     public void delete(UUID id) {
-        if (!repo.existsById(id)) 
-            throw new IllegalArgumentException("APPT_NOT_FOUND");
-        repo.deleteById(id);
+        var appt = repo.findById(id).orElseThrow(() -> new IllegalArgumentException("APPT_NOT_FOUND"));
+        repo.delete(appt);
+        if (appt.getStatus() != AppointmentStatus.REJECTED)
+            events.publishEvent(SlotChangeEvent.released(appt.getDoctor().getId(), appt.getAppointmentTime()));
     }
 
     /**
@@ -196,29 +544,32 @@ public class AppointmentService {
      * @param date Tarih
      * @return Dolu zaman dilimlerinin listesi (HH:mm formatında)
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<String> getBookedTimeSlots(UUID doctorId, LocalDateTime date) {
         // Tarihi sistem saat dilimine çevir
         LocalDateTime localDate = date.atZone(java.time.ZoneOffset.UTC)
                 .withZoneSameInstant(java.time.ZoneId.systemDefault())
                 .toLocalDateTime();
 
-        // Doktorun o günkü programını al
-        DoctorSchedule schedule = scheduleRepo.findByDoctorIdAndDayOfWeek(doctorId, localDate.getDayOfWeek());
+        // Önbellekte yoksa veritabanından hesapla
+        return availabilityCache.booked(new DoctorDay(doctorId, localDate.toLocalDate()),
+                () -> loadBookedTimeSlots(doctorId, localDate));
+    }
+
+    private List<String> loadBookedTimeSlots(UUID doctorId, LocalDateTime localDate) {
+        // Doktorun o günkü programını al (haftalık program önbelleğinden)
+        WorkingDay schedule = weeklySchedules.workingDay(doctorId, localDate.getDayOfWeek());
 
-        if (schedule == null || !schedule.isWorkingDay()) 
+        if (schedule == null) 
             throw new IllegalArgumentException("DOCTOR_NOT_WORKING");
 
         // Günün başlangıç ve bitiş saatlerini hesapla
-        LocalDateTime startOfDay = localDate.toLocalDate().atTime(schedule.getStartTime());
-        LocalDateTime endOfDay = localDate.toLocalDate().atTime(schedule.getEndTime());
-
-        // O günkü randevuları al
-        List<Appointment> appointments = repo.findByDoctorIdAndDateRange(doctorId, startOfDay, endOfDay);
+        LocalDateTime startOfDay = localDate.toLocalDate().atTime(schedule.startTime());
+        LocalDateTime endOfDay = localDate.toLocalDate().atTime(schedule.endTime());
 
-        // Dolu zaman dilimlerini HH:mm formatında döndür
-        return appointments.stream()
-                .map(appointment -> appointment.getAppointmentTime().toLocalTime().toString().substring(0, 5))
+        // O günkü randevu zamanlarını al ve HH:mm formatında döndür
+        return repo.findBookedSlotsByDoctorId(doctorId, startOfDay, endOfDay).stream()
+                .map(slot -> SlotEngine.label(SlotEngine.minuteOfDay(slot.appointmentTime().toLocalTime())))
                 .toList();
     }
 
@@ -229,65 +580,94 @@ public class AppointmentService {
      * @param date Tarih
      * @return Müsait zaman dilimlerinin listesi (HH:mm formatında)
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<String> getAvailableTimeSlots(UUID doctorId, LocalDate date) {
-        // Doktorun o günkü programını al
-        DoctorSchedule schedule = scheduleRepo.findByDoctorIdAndDayOfWeek(doctorId, date.getDayOfWeek());
+        // Önbellekte yoksa veritabanından hesapla
+        return availabilityCache.available(new DoctorDay(doctorId, date),
+                () -> loadAvailableTimeSlots(doctorId, date));
+    }
+
+    private List<String> loadAvailableTimeSlots(UUID doctorId, LocalDate date) {
+        // Doktorun o günkü programını al (haftalık program önbelleğinden)
+        WorkingDay schedule = weeklySchedules.workingDay(doctorId, date.getDayOfWeek());
         
-        if (schedule == null || !schedule.isWorkingDay()) {
+        if (schedule == null) {
             return new ArrayList<>(); // Çalışma günü değil
         }
 
-        // Dolu zaman dilimlerini al
-        List<String> bookedSlots = getBookedTimeSlots(doctorId, date.atStartOfDay());
-        
-        // Tüm müsait zaman dilimlerini hesapla
-        List<String> allAvailableSlots = calculateAllAvailableSlots(schedule);
-        
-        // Dolu olanları çıkar
-        allAvailableSlots.removeAll(bookedSlots);
-        
-        return allAvailableSlots;
+        // O günkü dolu randevuları ve aktif tutmaları al, tutulan zaman dilimleri de dolu sayılır
+        List<BookedSlot> bookings = new ArrayList<>(repo.findBookedSlotsByDoctorId(
+                doctorId, date.atStartOfDay(), date.plusDays(1).atStartOfDay()));
+        bookings.addAll(holdRepo.findActiveByDoctorId(
+                doctorId, date.atStartOfDay(), date.plusDays(1).atStartOfDay(), LocalDateTime.now()));
+
+        // Doluluk haritasından boş zaman dilimlerini hesapla
+        return slotEngine.availableSlots(schedule, bookings);
     }
 
     /**
-     * Doktorun çalışma saatlerine göre tüm müsait zaman dilimlerini hesaplar
-     * 
-     * @param schedule Doktor programı
-     * @return Tüm müsait zaman dilimleri
+     * Belirli bir doktorun tarih aralığındaki her gün için müsait zaman dilimlerini hesaplar
+     * Haftalık program ve aralıktaki tüm randevular tek seferde yüklenir
+     *
+     * @param doctorId Doktor ID'si
+     * @param from Başlangıç tarihi (dahil)
+     * @param to Bitiş tarihi (dahil)
+     * @return Her gün için müsait zaman dilimlerinin listesi
+     * @throws IllegalArgumentException Geçersiz veya çok uzun tarih aralığında
      */
-    private List<String> calculateAllAvailableSlots(DoctorSchedule schedule) {
-        List<String> availableSlots = new ArrayList<>();
-        LocalTime currentTime = schedule.getStartTime();
-        LocalTime endTime = schedule.getEndTime();
-        int durationMinutes = schedule.getAppointmentDurationMinutes();
-        
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
-
-        while (currentTime.plusMinutes(durationMinutes).isBefore(endTime) || 
-               currentTime.plusMinutes(durationMinutes).equals(endTime)) {
-            
-            // Tam gün vardiyasında öğle arası kontrolü
-            if (schedule.getShiftType() == ShiftType.FULL_DAY) {
-                LocalTime slotEndTime = currentTime.plusMinutes(durationMinutes);
-                
-                // Öğle arası ile çakışma kontrolü
-                boolean conflictsWithLunch = (currentTime.isBefore(LUNCH_BREAK_END) && 
-                                            slotEndTime.isAfter(LUNCH_BREAK_START));
-                
-                if (!conflictsWithLunch) {
-                    availableSlots.add(currentTime.format(formatter));
-                }
-            } else {
-                // Sabah veya öğleden sonra vardiyası için öğle arası kontrolü gerekmez
-                availableSlots.add(currentTime.format(formatter));
-            }
-            
-            // Bir sonraki zaman dilimine geç
-            currentTime = currentTime.plusMinutes(durationMinutes);
+    @Transactional(readOnly = true)
+    public List<DailyAvailabilityView> getAvailableTimeSlotsInRange(UUID doctorId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from))
+            throw new IllegalArgumentException("INVALID_DATE_RANGE");
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS)
+            throw new IllegalArgumentException("DATE_RANGE_TOO_LONG");
+
+        // Doktorun haftalık programını önbellekten al (yoksa tek sorguda yüklenir)
+        WeeklyTemplate weeklySchedule = weeklySchedules.template(doctorId);
+
+        // Aralıktaki tüm dolu randevuları ve aktif tutmaları al, günlere göre grupla
+        Map<LocalDate, List<BookedSlot>> bookedByDate = weeklySchedule.isEmpty()
+                ? Map.of()
+                : Stream.concat(
+                                repo.findBookedSlotsByDoctorId(doctorId, from.atStartOfDay(), to.plusDays(1).atStartOfDay()).stream(),
+                                holdRepo.findActiveByDoctorId(doctorId, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), LocalDateTime.now()).stream())
+                        .collect(Collectors.groupingBy(slot -> slot.appointmentTime().toLocalDate()));
+
+        // Her gün için müsait zaman dilimlerini hesapla
+        List<DailyAvailabilityView> days = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            WorkingDay schedule = weeklySchedule.day(date.getDayOfWeek());
+            List<String> slots = schedule == null
+                    ? List.of()
+                    : slotEngine.availableSlots(schedule, bookedByDate.getOrDefault(date, List.of()));
+            days.add(new DailyAvailabilityView(date, slots));
         }
+        return days;
+    }
+
+    /**
+     * Randevu zamanını doktorun o günkü programına göre doğrular
+     * 
+     * @param time Randevu zamanı
+     * @param schedule Doktorun o günkü programı (çalışmıyorsa null)
+     * @throws IllegalArgumentException Geçmiş tarih, çalışılmayan gün veya çalışma saatleri dışında kalan randevuda
+     */
+    static void validateBookingTime(LocalDateTime time, WorkingDay schedule) {
+        // Geçmiş tarih kontrolü
+        if (time.isBefore(LocalDateTime.now())) 
+            throw new IllegalArgumentException("APPT_PAST_DATE");
+
+        // Doktorun o gün çalışıp çalışmadığını kontrol et
+        if (schedule == null) 
+            throw new IllegalArgumentException("DOCTOR_NOT_WORKING");
+
+        // Randevu saatinin çalışma saatleri içinde olup olmadığını kontrol et
+        LocalTime appointmentTime = time.toLocalTime();
+        if (appointmentTime.isBefore(schedule.startTime()) || appointmentTime.isAfter(schedule.endTime()))
+            throw new IllegalArgumentException("APPT_OUTSIDE_WORKING_HOURS");
 
-        return availableSlots;
+        // Randevu süresi kontrolü
+        validateAppointmentTimeWithDuration(time, schedule);
     }
 
     /**
@@ -297,17 +677,17 @@ public class AppointmentService {
      * @param schedule Doktor programı
      * @throws IllegalArgumentException Geçersiz randevu zamanı
      */
-    private void validateAppointmentTimeWithDuration(LocalDateTime appointmentTime, DoctorSchedule schedule) {
+    private static void validateAppointmentTimeWithDuration(LocalDateTime appointmentTime, WorkingDay schedule) {
         LocalTime appointmentStartTime = appointmentTime.toLocalTime();
-        LocalTime appointmentEndTime = appointmentStartTime.plusMinutes(schedule.getAppointmentDurationMinutes());
+        LocalTime appointmentEndTime = appointmentStartTime.plusMinutes(schedule.appointmentDurationMinutes());
         
         // Randevu bitiş saatinin çalışma saatleri içinde olup olmadığını kontrol et
-        if (appointmentEndTime.isAfter(schedule.getEndTime())) {
+        if (appointmentEndTime.isAfter(schedule.endTime())) {
             throw new IllegalArgumentException("APPT_EXCEEDS_WORKING_HOURS");
         }
 
         // Tam gün vardiyasında öğle arası kontrolü
-        if (schedule.getShiftType() == ShiftType.FULL_DAY) {
+        if (schedule.shiftType() == ShiftType.FULL_DAY) {
             if ((appointmentStartTime.isBefore(LUNCH_BREAK_END) && appointmentEndTime.isAfter(LUNCH_BREAK_START))) {
                 throw new IllegalArgumentException("APPT_DURING_LUNCH_BREAK");
             }
@@ -315,37 +695,96 @@ public class AppointmentService {
     }
 
     /**
-     * Randevu çakışması kontrolü
+     * Sayfalı listeleme sorgusunun sınırlarını filtrelerden ve imleçten hesaplar
+     * Filtre verilmeyen alanlar sabit sınırlarla doldurulur, böylece sorgu tek ve indeks dostu kalır
+     * 
+     * @throws IllegalArgumentException Geçersiz tarih aralığı, imleç veya sayfa boyutu durumunda
+     */
+    private static PageBounds pageBounds(LocalDate from, LocalDate to, AppointmentStatus status,
+                                         String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("INVALID_LIMIT");
+        if (from != null && to != null && to.isBefore(from))
+            throw new IllegalArgumentException("INVALID_DATE_RANGE");
+
+        LocalDateTime lower = from != null ? from.atStartOfDay() : MIN_LISTING_TIME;
+        LocalDateTime upper = to != null ? to.plusDays(1).atStartOfDay() : MAX_LISTING_TIME;
+        Set<AppointmentStatus> statuses = status != null ? Set.of(status) : ALL_STATUSES;
+        if (cursor == null || cursor.isBlank())
+            return new PageBounds(lower, upper, statuses, lower, FIRST_ID);
+
+        AppointmentCursor after = AppointmentCursor.decode(cursor);
+        return new PageBounds(lower, upper, statuses, after.appointmentTime(), after.id());
+    }
+
+    /**
+     * Bir fazla getirilen satırlardan sayfayı ve sonraki imleci oluşturur
+     */
+    private static <T> AppointmentPage<T> toPage(List<AppointmentListRow> rows, int limit,
+                                                 Function<AppointmentListRow, T> view) {
+        if (rows.size() <= limit)
+            return new AppointmentPage<>(rows.stream().map(view).toList(), null);
+
+        List<AppointmentListRow> page = rows.subList(0, limit);
+        AppointmentListRow last = page.get(limit - 1);
+        return new AppointmentPage<>(page.stream().map(view).toList(),
+                new AppointmentCursor(last.appointmentTime(), last.id()).encode());
+    }
+
+    // Sayfalı listeleme sorgusunun parametreleri
+    private record PageBounds(LocalDateTime from, LocalDateTime to, Set<AppointmentStatus> statuses,
+                              LocalDateTime afterTime, UUID afterId) {
+    }
+
+    /**
+     * Toplu durum güncellemesinde zaman dilimi boşalan veya tekrar dolan randevular için olay yayınlar
      * 
      * @param doctorId Doktor ID'si
-     * @param appointmentTime Randevu zamanı
-     * @param durationMinutes Randevu süresi
-     * @throws IllegalStateException Çakışma durumunda
+     * @param changed Güncellenen randevular ve önceki durumları
+     * @param status Yeni durum
      */
-    private void validateAppointmentConflict(UUID doctorId, LocalDateTime appointmentTime, int durationMinutes) {
-        LocalDateTime appointmentEndTime = appointmentTime.plusMinutes(durationMinutes);
-        
-        // Aynı zaman diliminde başka randevu var mı kontrol et
-        if (repo.existsByDoctorIdAndTimeRange(doctorId, appointmentTime, appointmentEndTime, durationMinutes)) {
-            throw new IllegalStateException("APPT_TIME_SLOT_BOOKED");
+    private void publishStatusTransitions(UUID doctorId, List<StatusTransition> changed, AppointmentStatus status) {
+        for (StatusTransition t : changed) {
+            if (t.previousStatus() != AppointmentStatus.REJECTED && status == AppointmentStatus.REJECTED)
+                events.publishEvent(SlotChangeEvent.released(doctorId, t.appointmentTime()));
+            else if (t.previousStatus() == AppointmentStatus.REJECTED && status != AppointmentStatus.REJECTED)
+                events.publishEvent(SlotChangeEvent.booked(doctorId, t.appointmentTime()));
         }
     }
 
     /**
-     * Randevu çakışması kontrolü (belirli bir randevu hariç)
+     * Zaman aralığını tutan başka bir hasta varsa reddeder, hastanın kendi tutmasını siler
      * 
      * @param doctorId Doktor ID'si
-     * @param appointmentTime Randevu zamanı
-     * @param durationMinutes Randevu süresi
-     * @param excludeAppointmentId Hariç tutulacak randevu ID'si
-     * @throws IllegalStateException Çakışma durumunda
+     * @param patientId Randevunun sahibi olan hasta ID'si
+     * @param startTime Randevu başlangıcı
+     * @param endTime Randevu bitişi
+     * @throws IllegalStateException Zaman dilimi başka bir hasta tarafından tutuluyorsa
      */
-    private void validateAppointmentConflictExcludingSelf(UUID doctorId, LocalDateTime appointmentTime, int durationMinutes, UUID excludeAppointmentId) {
-        LocalDateTime appointmentEndTime = appointmentTime.plusMinutes(durationMinutes);
-        
-        // Aynı zaman diliminde başka randevu var mı kontrol et (kendi randevusu hariç)
-        if (repo.existsByDoctorIdAndTimeRangeExcludingAppointment(doctorId, appointmentTime, appointmentEndTime, durationMinutes, excludeAppointmentId)) {
-            throw new IllegalStateException("APPT_TIME_SLOT_BOOKED");
+    private void consumeHold(UUID doctorId, UUID patientId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (holdRepo.consumeOverlapCountingOthers(doctorId, startTime, endTime, patientId, LocalDateTime.now()) > 0)
+            throw new IllegalStateException("APPT_SLOT_HELD");
+    }
+
+    /**
+     * Randevu değişikliklerini veritabanına yazar ve çakışma kısıtı ihlalini iş hatasına çevirir
+     * 
+     * @param flush Veritabanına yazma işlemi
+     * @throws IllegalArgumentException Hasta veya doktor bulunamadığında
+     * @throws IllegalStateException Aynı doktorun çakışan başka bir randevusu olduğunda
+     */
+    private static void flushBooking(Runnable flush) {
+        try {
+            flush.run();
+        } catch (DataIntegrityViolationException e) {
+            String constraint = ConstraintViolations.constraintName(e);
+            if (TIME_OVERLAP_CONSTRAINT.equals(constraint))
+                throw new IllegalStateException("APPT_TIME_SLOT_BOOKED");
+            if (PATIENT_FK_CONSTRAINT.equals(constraint))
+                throw new IllegalArgumentException("PATIENT_NOT_FOUND");
+            if (DOCTOR_FK_CONSTRAINT.equals(constraint))
+                throw new IllegalArgumentException("DOCTOR_NOT_FOUND");
+            throw e;
         }
     }
 }
@@ -8,10 +8,11 @@ import com.clinic.appointmentsystem.application.mapper.UserMapper;
 import com.clinic.appointmentsystem.domain.entities.User;
 import com.clinic.appointmentsystem.domain.enums.Role;
 import com.clinic.appointmentsystem.infrastructure.security.JwtService;
+import com.clinic.appointmentsystem.infrastructure.security.PasswordHasher;
 import com.clinic.appointmentsystem.persistence.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -28,7 +29,7 @@ import java.util.UUID;
 @Transactional
 public class AuthService {
     private final UserRepository repo;
-    private final BCryptPasswordEncoder encoder;
+    private final PasswordHasher hasher;
     private final JwtService jwt;
     private final UserMapper mapper;
 
@@ -38,7 +39,9 @@ public class AuthService {
      * @param r Kayıt isteği (ad, soyad, email, şifre, rol)
      * @return Kimlik doğrulama yanıtı (kullanıcı bilgileri ve JWT token)
      * @throws IllegalArgumentException Email zaten kullanımda olduğunda
+     * @throws java.util.concurrent.RejectedExecutionException Şifre hashleme havuzu doluysa (503)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Hashleme sırasında veritabanı bağlantısı tutulmaz
     public AuthResponse register(RegisterRequest r) {
         // Email'in zaten kullanımda olup olmadığını kontrol et
         if (repo.findByEmail(r.email()).isPresent()) throw new IllegalArgumentException("ACCOUNT_EXISTS");
@@ -49,7 +52,7 @@ public class AuthService {
                 .firstName(r.firstName())
                 .lastName(r.lastName())
                 .email(r.email())
-                .passwordHash(encoder.encode(r.password())) // Şifreyi hashle
+                .passwordHash(hasher.encode(r.password())) // Şifreyi hashle
                 .role(Role.valueOf(r.role()))
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
@@ -59,7 +62,7 @@ public class AuthService {
         repo.save(user);
 
         // JWT token üret ve yanıt oluştur
-        String token = jwt.generateToken(user.getId(), user.getEmail(), user.getRole().name());
+        String token = jwt.generateToken(user.getId(), user.getEmail(), user.getRole().name(), user.getTokenVersion());
         return new AuthResponse(mapper.toDto(user), token);
     }
 
@@ -69,17 +72,26 @@ public class AuthService {
      * @param req Giriş isteği (email, şifre)
      * @return Kimlik doğrulama yanıtı (kullanıcı bilgileri ve JWT token)
      * @throws IllegalArgumentException Geçersiz kimlik bilgileri olduğunda
+     * @throws java.util.concurrent.RejectedExecutionException Şifre hashleme havuzu doluysa (503)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // Hashleme sırasında veritabanı bağlantısı tutulmaz
     public AuthResponse login(LoginRequest req) {
         // Email ile kullanıcıyı bul
         var user = repo.findByEmail(req.email()).orElseThrow(() -> new IllegalArgumentException("INVALID_CREDENTIALS"));
         
         // Şifre doğrulaması yap
-        if (!encoder.matches(req.password(), user.getPasswordHash()))
+        if (!hasher.matches(req.password(), user.getPasswordHash()))
             throw new IllegalArgumentException("INVALID_CREDENTIALS");
 
+        // BCrypt maliyeti artırıldıysa şifre yeni maliyetle tekrar hashlenir
+        if (hasher.needsRehash(user.getPasswordHash())) {
+            user.setPasswordHash(hasher.encode(req.password()));
+            user.setUpdatedAt(LocalDateTime.now());
+            repo.save(user);
+        }
+
         // JWT token üret ve yanıt oluştur
-        String token = jwt.generateToken(user.getId(), user.getEmail(), user.getRole().name());
+        String token = jwt.generateToken(user.getId(), user.getEmail(), user.getRole().name(), user.getTokenVersion());
         return new AuthResponse(mapper.toDto(user), token);
     }
 
@@ -0,0 +1,189 @@
+package com.clinic.appointmentsystem.application.services;
+
+import com.clinic.appointmentsystem.application.availability.DayOccupancy;
+import com.clinic.appointmentsystem.application.availability.SlotEngine;
+import com.clinic.appointmentsystem.application.availability.WorkingDay;
+import com.clinic.appointmentsystem.application.dto.appointment.EarliestSlotView;
+import com.clinic.appointmentsystem.application.mapper.UserMapper;
+import com.clinic.appointmentsystem.domain.entities.DoctorSchedule;
+import com.clinic.appointmentsystem.domain.entities.User;
+import com.clinic.appointmentsystem.domain.enums.ShiftType;
+import com.clinic.appointmentsystem.persistence.projections.BookedSlot;
+import com.clinic.appointmentsystem.persistence.repositories.AppointmentRepository;
+import com.clinic.appointmentsystem.persistence.repositories.DoctorScheduleRepository;
+import com.clinic.appointmentsystem.persistence.repositories.SlotHoldRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * AvailabilitySearchService - Klinik geneli müsaitlik arama servisi
+ *
+ * Bu servis tüm doktorlar arasında en erken boş zaman dilimlerini arar.
+ * Tüm çalışma programları, aralıktaki tüm randevular ve aktif tutmalar tek seferde yüklenir,
+ * doktor bazlı müsaitlik tembel (lazy) hesaplanır ve öncelik kuyruğu ile birleştirilir.
+ */
+@Service
+@RequiredArgsConstructor
+public class AvailabilitySearchService {
+
+    // Öğle arası zaman dilimi (12:00-13:00)
+    private static final int LUNCH_BREAK_START = 12 * 60;
+    private static final int LUNCH_BREAK_END = 13 * 60;
+
+    // Tek istekte aranabilecek en uzun tarih aralığı (gün)
+    private static final int MAX_RANGE_DAYS = 60;
+
+    // Döndürülebilecek en fazla sonuç sayısı
+    private static final int MAX_LIMIT = 100;
+
+    private final DoctorScheduleRepository scheduleRepo;
+    private final AppointmentRepository appointmentRepo;
+    private final SlotHoldRepository holdRepo;
+    private final SlotEngine slotEngine;
+    private final UserMapper userMapper;
+
+    /**
+     * Tüm doktorlar arasında en erken boş zaman dilimlerini bulur
+     *
+     * @param from Başlangıç tarihi (dahil)
+     * @param to Bitiş tarihi (dahil)
+     * @param shift Zaman dilimi filtresi (MORNING: öğleden önce, AFTERNOON: öğleden sonra, null veya FULL_DAY: tüm gün)
+     * @param limit Döndürülecek en fazla sonuç sayısı
+     * @return Zamana göre sıralı en erken boş zaman dilimleri
+     * @throws IllegalArgumentException Geçersiz tarih aralığı veya limit durumunda
+     */
+    @Transactional(readOnly = true)
+    public List<EarliestSlotView> findEarliestSlots(LocalDate from, LocalDate to, ShiftType shift, int limit) {
+        if (to.isBefore(from))
+            throw new IllegalArgumentException("INVALID_DATE_RANGE");
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS)
+            throw new IllegalArgumentException("DATE_RANGE_TOO_LONG");
+        if (limit <= 0 || limit > MAX_LIMIT)
+            throw new IllegalArgumentException("INVALID_LIMIT");
+
+        // Tüm doktorların haftalık programlarını tek sorguda al
+        Map<UUID, Map<DayOfWeek, WorkingDay>> schedulesByDoctor = new HashMap<>();
+        Map<UUID, User> doctors = new HashMap<>();
+        for (DoctorSchedule schedule : scheduleRepo.findAllWorkingDays()) {
+            UUID doctorId = schedule.getDoctor().getId();
+            doctors.putIfAbsent(doctorId, schedule.getDoctor());
+            schedulesByDoctor.computeIfAbsent(doctorId, id -> new EnumMap<>(DayOfWeek.class))
+                    .put(schedule.getDayOfWeek(), WorkingDay.of(schedule));
+        }
+        if (schedulesByDoctor.isEmpty()) return List.of();
+
+        // Aralıktaki tüm dolu randevuları ve aktif tutmaları al, doktor ve güne göre grupla
+        LocalDateTime now = LocalDateTime.now();
+        Map<UUID, Map<LocalDate, List<BookedSlot>>> bookedByDoctor = Stream.concat(
+                        appointmentRepo.findAllBookedSlots(from.atStartOfDay(), to.plusDays(1).atStartOfDay()).stream(),
+                        holdRepo.findAllActive(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), now).stream())
+                .collect(Collectors.groupingBy(BookedSlot::doctorId,
+                        Collectors.groupingBy(slot -> slot.appointmentTime().toLocalDate())));
+
+        // Her doktor için bir imleç oluştur ve öncelik kuyruğuna ekle
+        PriorityQueue<DoctorCursor> queue = new PriorityQueue<>(Comparator
+                .comparing(DoctorCursor::current)
+                .thenComparing(DoctorCursor::doctorId));
+        for (var entry : schedulesByDoctor.entrySet()) {
+            var cursor = new DoctorCursor(entry.getKey(), entry.getValue(),
+                    bookedByDoctor.getOrDefault(entry.getKey(), Map.of()), from, to, shift, now);
+            if (cursor.advance()) queue.add(cursor);
+        }
+
+        // En erken zaman dilimlerini sırayla kuyruktan çek
+        List<EarliestSlotView> result = new ArrayList<>(limit);
+        while (result.size() < limit && !queue.isEmpty()) {
+            DoctorCursor cursor = queue.poll();
+            result.add(new EarliestSlotView(userMapper.toDto(doctors.get(cursor.doctorId())), cursor.current()));
+            if (cursor.advance()) queue.add(cursor);
+        }
+        return result;
+    }
+
+    /**
+     * Bir doktorun boş zaman dilimleri üzerinde gün gün ilerleyen imleç
+     * Bir günün müsaitliği sadece o güne ulaşıldığında hesaplanır
+     */
+    private final class DoctorCursor {
+        private final UUID doctorId;
+        private final Map<DayOfWeek, WorkingDay> weeklySchedule;
+        private final Map<LocalDate, List<BookedSlot>> bookedByDate;
+        private final LocalDate to;
+        private final ShiftType shift;
+        private final LocalDateTime now;
+
+        private LocalDate date;
+        private int[] slots = new int[0];
+        private int index;
+        private LocalDateTime current;
+
+        private DoctorCursor(UUID doctorId, Map<DayOfWeek, WorkingDay> weeklySchedule,
+                             Map<LocalDate, List<BookedSlot>> bookedByDate,
+                             LocalDate from, LocalDate to, ShiftType shift, LocalDateTime now) {
+            this.doctorId = doctorId;
+            this.weeklySchedule = weeklySchedule;
+            this.bookedByDate = bookedByDate;
+            this.date = from.minusDays(1);
+            this.to = to;
+            this.shift = shift;
+            this.now = now;
+        }
+
+        UUID doctorId() {
+            return doctorId;
+        }
+
+        LocalDateTime current() {
+            return current;
+        }
+
+        /**
+         * Bir sonraki uygun boş zaman dilimine ilerler
+         *
+         * @return Zaman dilimi bulunduysa true, aralık tükendiyse false
+         */
+        boolean advance() {
+            while (true) {
+                while (index < slots.length) {
+                    LocalDateTime candidate = date.atStartOfDay().plusMinutes(slots[index++]);
+                    if (candidate.isAfter(now)) {
+                        current = candidate;
+                        return true;
+                    }
+                }
+                date = date.plusDays(1);
+                if (date.isAfter(to)) return false;
+                slots = computeDay(date);
+                index = 0;
+            }
+        }
+
+        private int[] computeDay(LocalDate day) {
+            WorkingDay schedule = weeklySchedule.get(day.getDayOfWeek());
+            if (schedule == null) return new int[0];
+
+            DayOccupancy occupancy = slotEngine.baseOccupancy(schedule);
+            // Vardiya filtresi: istenen zaman dilimi dışında kalan kısımlar dolu kabul edilir
+            if (shift == ShiftType.MORNING) occupancy.occupy(LUNCH_BREAK_START, DayOccupancy.MINUTES_PER_DAY);
+            else if (shift == ShiftType.AFTERNOON) occupancy.occupy(0, LUNCH_BREAK_END);
+            slotEngine.occupyBookings(occupancy, bookedByDate.getOrDefault(day, List.of()));
+            return slotEngine.freeSlotMinutes(schedule, occupancy);
+        }
+    }
+}
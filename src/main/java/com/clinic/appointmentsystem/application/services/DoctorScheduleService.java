@@ -1,7 +1,11 @@
 package com.clinic.appointmentsystem.application.services;
 
+import com.clinic.appointmentsystem.application.availability.SlotTemplateRegistry;
+import com.clinic.appointmentsystem.application.availability.WeeklyScheduleCache;
+import com.clinic.appointmentsystem.application.availability.WorkingDay;
 import com.clinic.appointmentsystem.application.dto.schedule.CreateScheduleRequest;
 import com.clinic.appointmentsystem.application.dto.schedule.ScheduleView;
+import com.clinic.appointmentsystem.application.events.ScheduleChangeEvent;
 import com.clinic.appointmentsystem.application.mapper.ScheduleMapper;
 import com.clinic.appointmentsystem.domain.entities.DoctorSchedule;
 import com.clinic.appointmentsystem.domain.enums.ShiftType;
@@ -9,13 +13,13 @@ import com.clinic.appointmentsystem.persistence.repositories.AppointmentReposito
 import com.clinic.appointmentsystem.persistence.repositories.DoctorScheduleRepository;
 import com.clinic.appointmentsystem.persistence.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -31,18 +35,6 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Transactional
 public class DoctorScheduleService {
-    // Sabah vardiyası saatleri (09:00-12:00)
-    private static final LocalTime MORNING_START = LocalTime.of(9, 0);
-    private static final LocalTime MORNING_END = LocalTime.of(12, 0);
-    
-    // Öğleden sonra vardiyası saatleri (13:00-18:00)
-    private static final LocalTime AFTERNOON_START = LocalTime.of(13, 0);
-    private static final LocalTime AFTERNOON_END = LocalTime.of(18, 0);
-    
-    // Tam gün vardiyası saatleri (09:00-18:00)
-    private static final LocalTime FULL_DAY_START = LocalTime.of(9, 0);
-    private static final LocalTime FULL_DAY_END = LocalTime.of(18, 0);
-    
     // Öğle arası zaman dilimi (12:00-13:00)
     private static final LocalTime LUNCH_BREAK_START = LocalTime.of(12, 0);
     private static final LocalTime LUNCH_BREAK_END = LocalTime.of(13, 0);
@@ -51,6 +43,9 @@ public class DoctorScheduleService {
     private final UserRepository userRepo;
     private final ScheduleMapper scheduleMapper;
     private final AppointmentRepository appointmentRepo;
+    private final SlotTemplateRegistry slotTemplates;
+    private final WeeklyScheduleCache weeklySchedules;
+    private final ApplicationEventPublisher events;
 
     /**
      * Vardiya türüne göre başlangıç ve bitiş saatlerini ayarlar
@@ -59,23 +54,9 @@ public class DoctorScheduleService {
      * @param shiftType Vardiya türü (MORNING, AFTERNOON, FULL_DAY)
      */
     private static void setShiftTimes(DoctorSchedule schedule, ShiftType shiftType) {
-        switch (shiftType) {
-            case MORNING -> {
-                // Sabah vardiyası: 09:00-12:00
-                schedule.setStartTime(DoctorScheduleService.MORNING_START);
-                schedule.setEndTime(DoctorScheduleService.MORNING_END);
-            }
-            case AFTERNOON -> {
-                // Öğleden sonra vardiyası: 13:00-18:00
-                schedule.setStartTime(DoctorScheduleService.AFTERNOON_START);
-                schedule.setEndTime(DoctorScheduleService.AFTERNOON_END);
-            }
-            case FULL_DAY -> {
-                // Tam gün vardiyası: 09:00-18:00 (öğle arası hariç)
-                schedule.setStartTime(DoctorScheduleService.FULL_DAY_START);
-                schedule.setEndTime(DoctorScheduleService.FULL_DAY_END);
-            }
-        }
+        // Standart vardiya saatleri ShiftType içinde tanımlıdır
+        schedule.setStartTime(shiftType.getStartTime());
+        schedule.setEndTime(shiftType.getEndTime());
     }
 
     /**
@@ -119,13 +100,14 @@ public class DoctorScheduleService {
             LocalDateTime lunchStart = LocalDateTime.of(today, LUNCH_BREAK_START);
             LocalDateTime lunchEnd = LocalDateTime.of(today, LUNCH_BREAK_END);
             
-            if (appointmentRepo.existsByDoctorIdAndTimeRange(doctorId, lunchStart, lunchEnd, request.appointmentDurationMinutes())) {
+            if (appointmentRepo.existsByDoctorIdAndTimeRange(doctorId, lunchStart, lunchEnd)) {
             throw new IllegalStateException("EXISTING_APPOINTMENTS_DURING_LUNCH_BREAK");
             }
         }
 
         // Programı kaydet
         repo.save(schedule);
+        events.publishEvent(new ScheduleChangeEvent(doctorId, request.dayOfWeek()));
         return schedule.getId();
     }
 
@@ -177,11 +159,16 @@ public class DoctorScheduleService {
             LocalDateTime lunchStart = LocalDateTime.of(today, LUNCH_BREAK_START);
             LocalDateTime lunchEnd = LocalDateTime.of(today, LUNCH_BREAK_END);
             
-            if (appointmentRepo.existsByDoctorIdAndTimeRange(doctorId, lunchStart, lunchEnd, request.appointmentDurationMinutes())) {
+            if (appointmentRepo.existsByDoctorIdAndTimeRange(doctorId, lunchStart, lunchEnd)) {
             throw new IllegalStateException("EXISTING_APPOINTMENTS_DURING_LUNCH_BREAK");
             }
         }
 
+        // Eski ve yeni gün için müsaitlik değişir
+        events.publishEvent(new ScheduleChangeEvent(doctorId, schedule.getDayOfWeek()));
+        if (schedule.getDayOfWeek() != request.dayOfWeek())
+            events.publishEvent(new ScheduleChangeEvent(doctorId, request.dayOfWeek()));
+
         // Program bilgilerini güncelle
         schedule.setDayOfWeek(request.dayOfWeek());
         schedule.setWorkingDay(request.isWorkingDay());
@@ -209,6 +196,7 @@ public class DoctorScheduleService {
 
         // Programı sil
         repo.delete(schedule);
+        events.publishEvent(new ScheduleChangeEvent(doctorId, schedule.getDayOfWeek()));
     }
 
     /**
@@ -220,44 +208,15 @@ public class DoctorScheduleService {
      */
     @Transactional(readOnly = true)
     public List<String> getAvailableTimeSlots(UUID doctorId, LocalDate date) {
-        // Doktorun o günkü programını al
-        DoctorSchedule schedule = repo.findByDoctorIdAndDayOfWeek(doctorId, date.getDayOfWeek());
+        // Doktorun o günkü programını al (haftalık program önbelleğinden)
+        WorkingDay schedule = weeklySchedules.workingDay(doctorId, date.getDayOfWeek());
         
-        if (schedule == null || !schedule.isWorkingDay()) {
+        if (schedule == null) {
             return new ArrayList<>(); // Çalışma günü değil
         }
 
-        List<String> availableSlots = new ArrayList<>();
-        LocalTime currentTime = schedule.getStartTime();
-        LocalTime endTime = schedule.getEndTime();
-        int durationMinutes = schedule.getAppointmentDurationMinutes();
-        
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
-
-        while (currentTime.plusMinutes(durationMinutes).isBefore(endTime) || 
-               currentTime.plusMinutes(durationMinutes).equals(endTime)) {
-            
-            // Tam gün vardiyasında öğle arası kontrolü
-            if (schedule.getShiftType() == ShiftType.FULL_DAY) {
-                LocalTime slotEndTime = currentTime.plusMinutes(durationMinutes);
-                
-                // Öğle arası ile çakışma kontrolü
-                boolean conflictsWithLunch = (currentTime.isBefore(LUNCH_BREAK_END) && 
-                                            slotEndTime.isAfter(LUNCH_BREAK_START));
-                
-                if (!conflictsWithLunch) {
-                    availableSlots.add(currentTime.format(formatter));
-                }
-            } else {
-                // Sabah veya öğleden sonra vardiyası için öğle arası kontrolü gerekmez
-                availableSlots.add(currentTime.format(formatter));
-            }
-            
-            // Bir sonraki zaman dilimine geç
-            currentTime = currentTime.plusMinutes(durationMinutes);
-        }
-
-        return availableSlots;
+        // Vardiya ve süreye ait önceden hesaplanmış şablonu döndür
+        return slotTemplates.lookup(schedule).labels();
     }
 
     /**
@@ -269,20 +228,20 @@ public class DoctorScheduleService {
      */
     @Transactional(readOnly = true)
     public boolean isDoctorAvailable(UUID doctorId, LocalDate date, LocalTime time) {
-        DoctorSchedule schedule = repo.findByDoctorIdAndDayOfWeek(doctorId, date.getDayOfWeek());
+        WorkingDay schedule = weeklySchedules.workingDay(doctorId, date.getDayOfWeek());
         
-        if (schedule == null || !schedule.isWorkingDay()) {
+        if (schedule == null) {
             return false;
         }
 
         // Çalışma saatleri kontrolü
-        if (time.isBefore(schedule.getStartTime()) || time.isAfter(schedule.getEndTime())) {
+        if (time.isBefore(schedule.startTime()) || time.isAfter(schedule.endTime())) {
             return false;
         }
 
         // Tam gün vardiyasında öğle arası kontrolü
-        if (schedule.getShiftType() == ShiftType.FULL_DAY) {
-            LocalTime appointmentEndTime = time.plusMinutes(schedule.getAppointmentDurationMinutes());
+        if (schedule.shiftType() == ShiftType.FULL_DAY) {
+            LocalTime appointmentEndTime = time.plusMinutes(schedule.appointmentDurationMinutes());
             
             // Öğle arası ile çakışma kontrolü
             boolean conflictsWithLunch = (time.isBefore(LUNCH_BREAK_END) && 
@@ -326,7 +285,7 @@ public class DoctorScheduleService {
      */
     @Transactional(readOnly = true)
     public String getWeeklyScheduleSummary(UUID doctorId) {
-        var schedules = repo.findAllWorkingDaysByDoctorId(doctorId);
+        var schedules = weeklySchedules.template(doctorId).workingDays();
         
         if (schedules.isEmpty()) {
             return "Bu doktor henüz çalışma programı oluşturmamış.";
@@ -337,11 +296,11 @@ public class DoctorScheduleService {
         
         for (var schedule : schedules) {
             summary.append(String.format("%s: %s - %s (%s, %d dakika)\n",
-                    schedule.getDayOfWeek().toString(),
-                    schedule.getStartTime().toString(),
-                    schedule.getEndTime().toString(),
-                    schedule.getShiftType().toString(),
-                    schedule.getAppointmentDurationMinutes()));
+                    schedule.dayOfWeek().toString(),
+                    schedule.startTime().toString(),
+                    schedule.endTime().toString(),
+                    schedule.shiftType().toString(),
+                    schedule.appointmentDurationMinutes()));
         }
         
         return summary.toString();
@@ -0,0 +1,125 @@
+package com.clinic.appointmentsystem.application.services;
+
+import com.clinic.appointmentsystem.infrastructure.cache.BoundedLruCache;
+import com.clinic.appointmentsystem.persistence.projections.IdempotencyResult;
+import com.clinic.appointmentsystem.persistence.repositories.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * IdempotencyService - Idempotency-Key ile tekrarlanan randevu oluşturma isteklerini yönetir
+ *
+ * Bir anahtarla ilk gelen istek anahtarı veritabanında sahiplenir ve randevuyu aynı işlemde oluşturur.
+ * Aynı kullanıcı aynı anahtarla tekrar gönderdiğinde ilk randevunun ID'si döndürülür; yakın zamanda
+ * görülen anahtarlar bellekteki LRU önbellekten, veritabanına gidilmeden yanıtlanır.
+ * Anahtarla birlikte isteğin SHA-256 özeti saklanır; aynı anahtar farklı bir istekle gönderilirse
+ * ilk sonuç döndürülmez, istek IDEMPOTENCY_KEY_REUSED ile reddedilir.
+ * Süresi dolan kayıtlar periyodik olarak silinir.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    // Idempotency-Key başlığının en fazla uzunluğu
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository repo;
+    private final TransactionTemplate transactionTemplate;
+    private final BoundedLruCache<CacheKey, IdempotencyResult> recent;
+    private final Duration ttl;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyService(IdempotencyRecordRepository repo,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Value("${appointment.idempotency.cache-max-entries:10000}") int maxEntries,
+                              @Value("${appointment.idempotency.ttl-hours:24}") long ttlHours) {
+        this.repo = repo;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.recent = new BoundedLruCache<>(maxEntries, ttl.toMillis());
+    }
+
+    /**
+     * İşlemi anahtar başına en fazla bir kez çalıştırır
+     *
+     * @param userId İsteği gönderen kullanıcının ID'si
+     * @param key Idempotency-Key değeri
+     * @param request İstek gövdesi (anahtarın aynı istekle tekrarlandığını doğrulamak için özeti alınır)
+     * @param create Randevuyu oluşturan işlem (anahtarla aynı veritabanı işleminde çalışır)
+     * @return Oluşturulan veya daha önce bu anahtarla oluşturulmuş randevunun ID'si
+     * @throws IllegalArgumentException Geçersiz anahtar durumunda
+     * @throws IllegalStateException Anahtar farklı bir istekle kullanılmışsa (IDEMPOTENCY_KEY_REUSED)
+     */
+    public UUID execute(UUID userId, String key, Object request, Supplier<UUID> create) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH)
+            throw new IllegalArgumentException("INVALID_IDEMPOTENCY_KEY");
+        String requestHash = hash(request);
+
+        // Yakın zamanda görülen anahtar: veritabanına gidilmez
+        CacheKey cacheKey = new CacheKey(userId, key);
+        IdempotencyResult cached = recent.get(cacheKey);
+        if (cached != null) return replay(cached, requestHash);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(ttl);
+        UUID id = transactionTemplate.execute(status -> {
+            // Anahtar zaten kullanılmışsa randevu oluşturulmaz
+            if (repo.claim(userId, key, requestHash, now, cutoff) == 0) return null;
+            UUID created = create.get();
+            repo.complete(userId, key, created);
+            return created;
+        });
+        IdempotencyResult result = id != null
+                ? new IdempotencyResult(id, requestHash)
+                : repo.findResult(userId, key, cutoff)
+                        .orElseThrow(() -> new IllegalStateException("IDEMPOTENCY_KEY_IN_USE"));
+
+        recent.put(cacheKey, result);
+        return replay(result, requestHash);
+    }
+
+    /**
+     * Süresi dolan anahtarları veritabanından ve önbellekten siler
+     */
+    @Scheduled(fixedDelayString = "${appointment.idempotency.sweep-interval-ms:600000}")
+    public void sweepExpired() {
+        int deleted = transactionTemplate.execute(status -> repo.deleteExpired(LocalDateTime.now().minus(ttl)));
+        recent.evictExpired();
+        if (deleted > 0) log.debug("Removed {} expired idempotency keys", deleted);
+    }
+
+    // Özeti olmayan kayıtlar (request_hash eklenmeden önce yazılanlar) karşılaştırılmaz
+    private static UUID replay(IdempotencyResult result, String requestHash) {
+        if (result.requestHash() != null && !result.requestHash().equals(requestHash))
+            throw new IllegalStateException("IDEMPOTENCY_KEY_REUSED");
+        return result.appointmentId();
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Idempotency request hash failed", e);
+        }
+    }
+
+    private record CacheKey(UUID userId, String key) {
+    }
+}
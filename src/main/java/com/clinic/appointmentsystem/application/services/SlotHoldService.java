@@ -0,0 +1,196 @@
+package com.clinic.appointmentsystem.application.services;
+
+import com.clinic.appointmentsystem.application.availability.DoctorDay;
+import com.clinic.appointmentsystem.application.availability.WeeklyScheduleCache;
+import com.clinic.appointmentsystem.application.availability.WorkingDay;
+import com.clinic.appointmentsystem.application.booking.BookingLock;
+import com.clinic.appointmentsystem.application.dto.appointment.SlotHoldView;
+import com.clinic.appointmentsystem.application.events.SlotChangeEvent;
+import com.clinic.appointmentsystem.domain.entities.SlotHold;
+import com.clinic.appointmentsystem.infrastructure.timer.HierarchicalTimingWheel;
+import com.clinic.appointmentsystem.persistence.ConstraintViolations;
+import com.clinic.appointmentsystem.persistence.repositories.AppointmentRepository;
+import com.clinic.appointmentsystem.persistence.repositories.SlotHoldRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * SlotHoldService - Geçici zaman dilimi tutma servisi
+ *
+ * Hasta randevuyu onaylamadan önce bir zaman dilimini kısa süreliğine ayırabilir; tutulan zaman dilimi
+ * diğer hastalar için müsait görünmez ve randevu oluşturulurken tüketilir.
+ * Tutmalar veritabanında saklanır ve exclusion kısıtı ile tüm sunucular için tekildir.
+ * Süre dolumları bellekteki hiyerarşik zamanlama çarkı ile toplu olarak işlenir.
+ */
+@Slf4j
+@Service
+public class SlotHoldService {
+
+    // Aynı doktorun zaman aralığının birden fazla tutma ile ayrılmasını engelleyen veritabanı kısıtı
+    private static final String HOLD_OVERLAP_CONSTRAINT = "ex_slot_hold_overlap";
+
+    // Zamanlama çarkının çözünürlüğü ve seviye başına kova sayısı (1 sn x 64 ≈ 1 dk, 2. seviye ≈ 68 dk)
+    private static final long WHEEL_TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 64;
+
+    private final SlotHoldRepository holdRepo;
+    private final AppointmentRepository appointmentRepo;
+    private final WeeklyScheduleCache weeklySchedules;
+    private final BookingLock bookingLock;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final HierarchicalTimingWheel<HoldRef> wheel;
+
+    public SlotHoldService(SlotHoldRepository holdRepo,
+                           AppointmentRepository appointmentRepo,
+                           WeeklyScheduleCache weeklySchedules,
+                           BookingLock bookingLock,
+                           ApplicationEventPublisher events,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${appointment.slot-holds.ttl-minutes:5}") long ttlMinutes) {
+        this.holdRepo = holdRepo;
+        this.appointmentRepo = appointmentRepo;
+        this.weeklySchedules = weeklySchedules;
+        this.bookingLock = bookingLock;
+        this.events = events;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.wheel = new HierarchicalTimingWheel<>(WHEEL_TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    /**
+     * Zaman dilimini hasta adına geçici olarak tutar
+     * Hastanın önceki tutmaları bırakılır; her hastanın en fazla bir aktif tutması olur
+     *
+     * @param patientId Hasta ID'si
+     * @param doctorId Doktor ID'si
+     * @param appointmentTime Tutulacak randevu zamanı
+     * @return Oluşturulan tutma
+     * @throws IllegalArgumentException Geçersiz randevu zamanında
+     * @throws IllegalStateException Zaman dilimi dolu veya başka bir hasta tarafından tutuluyorsa
+     */
+    @Transactional
+    public SlotHoldView hold(UUID patientId, UUID doctorId, LocalDateTime appointmentTime) {
+        // Randevu oluşturma ile aynı kurallarla doğrula
+        WorkingDay schedule = weeklySchedules.workingDay(doctorId, appointmentTime.getDayOfWeek());
+        AppointmentService.validateBookingTime(appointmentTime, schedule);
+        LocalDateTime endTime = appointmentTime.plusMinutes(schedule.appointmentDurationMinutes());
+
+        bookingLock.lock(new DoctorDay(doctorId, appointmentTime.toLocalDate()));
+        if (appointmentRepo.existsByDoctorIdAndTimeRange(doctorId, appointmentTime, endTime))
+            throw new IllegalStateException("APPT_TIME_SLOT_BOOKED");
+
+        // Hastanın önceki tutmalarını ve çakışan süresi dolmuş tutmaları temizle
+        List<SlotHold> previous = holdRepo.findByPatientId(patientId);
+        if (!previous.isEmpty()) {
+            holdRepo.deleteAllInBatch(previous);
+            for (SlotHold hold : previous)
+                events.publishEvent(SlotChangeEvent.released(hold.getDoctorId(), hold.getStartTime()));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        holdRepo.deleteExpiredOverlap(doctorId, appointmentTime, endTime, now);
+
+        var hold = SlotHold.builder()
+                .doctorId(doctorId)
+                .patientId(patientId)
+                .startTime(appointmentTime)
+                .endTime(endTime)
+                .expiresAt(now.plus(ttl))
+                .createdAt(now)
+                .build();
+        try {
+            holdRepo.saveAndFlush(hold);
+        } catch (DataIntegrityViolationException e) {
+            if (HOLD_OVERLAP_CONSTRAINT.equals(ConstraintViolations.constraintName(e)))
+                throw new IllegalStateException("APPT_SLOT_HELD");
+            throw e;
+        }
+
+        events.publishEvent(SlotChangeEvent.booked(doctorId, appointmentTime));
+        schedule(hold);
+        return new SlotHoldView(hold.getId(), doctorId, appointmentTime, hold.getExpiresAt());
+    }
+
+    /**
+     * Hastanın tutmasını süresi dolmadan bırakır
+     *
+     * @param patientId Hasta ID'si
+     * @param holdId Tutma ID'si
+     * @throws IllegalArgumentException Tutma bulunamazsa veya hastaya ait değilse
+     */
+    @Transactional
+    public void release(UUID patientId, UUID holdId) {
+        SlotHold hold = holdRepo.findById(holdId)
+                .filter(h -> h.getPatientId().equals(patientId))
+                .orElseThrow(() -> new IllegalArgumentException("HOLD_NOT_FOUND"));
+        holdRepo.delete(hold);
+        events.publishEvent(SlotChangeEvent.released(hold.getDoctorId(), hold.getStartTime()));
+    }
+
+    /**
+     * Uygulama başladığında veritabanındaki aktif tutmaları zamanlama çarkına yükler
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveHolds() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SlotHold> active = transactionTemplate.execute(status -> holdRepo.findAll().stream()
+                .filter(hold -> hold.getExpiresAt().isAfter(now))
+                .toList());
+        active.forEach(this::schedule);
+    }
+
+    /**
+     * Süresi dolan tutmaları zamanlama çarkından toplu olarak alır, siler ve zaman dilimlerini boşaltır
+     * Randevuya dönüşmüş veya bırakılmış tutmalar silinmediği için olay yayınlanmaz
+     */
+    @Scheduled(fixedRate = WHEEL_TICK_MILLIS)
+    public void expireDue() {
+        List<HoldRef> due = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis(), due::add);
+        if (due.isEmpty()) return;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<UUID> deleted = new HashSet<>(holdRepo.deleteByIdInReturningId(due.stream().map(HoldRef::id).toList()));
+            for (HoldRef ref : due) {
+                if (deleted.contains(ref.id()))
+                    events.publishEvent(SlotChangeEvent.released(ref.doctorId(), ref.startTime()));
+            }
+        });
+    }
+
+    /**
+     * Başka sunucularda oluşturulup o sunucuların çarkından düşmüş (ör. yeniden başlatma) süresi dolmuş tutmaları siler
+     */
+    @Scheduled(fixedDelayString = "${appointment.slot-holds.sweep-interval-ms:600000}")
+    public void sweepExpired() {
+        int deleted = transactionTemplate.execute(status -> holdRepo.deleteExpired(LocalDateTime.now()));
+        if (deleted > 0) log.debug("Removed {} expired slot holds", deleted);
+    }
+
+    private void schedule(SlotHold hold) {
+        long expiresAtMillis = hold.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        wheel.add(new HoldRef(hold.getId(), hold.getDoctorId(), hold.getStartTime()), expiresAtMillis);
+    }
+
+    private record HoldRef(UUID id, UUID doctorId, LocalDateTime startTime) {
+    }
+}
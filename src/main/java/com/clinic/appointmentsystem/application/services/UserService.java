@@ -2,12 +2,14 @@ package com.clinic.appointmentsystem.application.services;
 
 import com.clinic.appointmentsystem.application.dto.user.UpdateUserRequest;
 import com.clinic.appointmentsystem.application.dto.user.UserDto;
+import com.clinic.appointmentsystem.application.events.UserEmailChangeEvent;
 import com.clinic.appointmentsystem.application.mapper.UserMapper;
 import com.clinic.appointmentsystem.domain.entities.User;
 import com.clinic.appointmentsystem.domain.enums.Role;
 import com.clinic.appointmentsystem.persistence.repositories.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher events;
 
     /**
      * Sistemdeki tüm doktorları listeler
@@ -58,7 +61,8 @@ public class UserService {
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
         // Email değişikliği varsa, yeni email'in başka kullanıcı tarafından kullanılıp kullanılmadığını kontrol et
-        if (!user.getEmail().equals(request.email())) {
+        boolean emailChanged = !user.getEmail().equals(request.email());
+        if (emailChanged) {
             userRepository.findByEmail(request.email())
                     .ifPresent(existingUser -> {
                         if (!existingUser.getId().equals(userId)) {
@@ -73,9 +77,14 @@ public class UserService {
             user.setLastName(request.lastName());
             user.setEmail(request.email());
             user.setUpdatedAt(LocalDateTime.now());
+            // Token'lar eski email'i taşıdığı için sürüm artırılır; önceki token'lar tüm sunucularda geçersiz olur
+            if (emailChanged) user.setTokenVersion(user.getTokenVersion() + 1);
 
             // Güncellenmiş kullanıcıyı kaydet ve DTO'ya çevir
             User updatedUser = userRepository.save(user);
+
+            // Bu sunucudaki önbellekte tutulan sürüm işlem tamamlanınca yenilenir
+            if (emailChanged) events.publishEvent(new UserEmailChangeEvent(userId));
             return userMapper.toDto(updatedUser);
         } catch (Exception e) {
             throw new IllegalArgumentException("Failed to update user: " + e.getMessage());
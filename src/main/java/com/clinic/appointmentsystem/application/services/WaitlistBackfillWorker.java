@@ -0,0 +1,141 @@
+package com.clinic.appointmentsystem.application.services;
+
+import com.clinic.appointmentsystem.application.availability.DoctorDay;
+import com.clinic.appointmentsystem.application.dto.appointment.CreateAppointmentRequest;
+import com.clinic.appointmentsystem.application.events.SlotChangeEvent;
+import com.clinic.appointmentsystem.domain.entities.WaitlistEntry;
+import com.clinic.appointmentsystem.persistence.repositories.AppointmentRepository;
+import com.clinic.appointmentsystem.persistence.repositories.WaitlistEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * WaitlistBackfillWorker - Boşalan zaman dilimlerini bekleme listesine veren arka plan işçisi
+ *
+ * Randevu silme, reddetme, yeniden planlama veya tutma süresinin dolması ile boşalan zaman dilimleri
+ * işlem tamamlandıktan sonra sınırlı bir kuyruğa eklenir. İşçi kuyruğu periyodik olarak toplu boşaltır,
+ * olayları doktor-gün bazında gruplar ve her boş zaman dilimi için sıradaki hastaya randevu oluşturur.
+ * Her randevu kendi işleminde oluşturulur; zaman dilimi bu arada dolduysa hasta sırasını korur.
+ */
+@Slf4j
+@Component
+public class WaitlistBackfillWorker {
+
+    private final AppointmentService appointmentService;
+    private final WaitlistEntryRepository waitlistRepo;
+    private final AppointmentRepository appointmentRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<SlotChangeEvent> freedSlots;
+    private final int batchSize;
+
+    public WaitlistBackfillWorker(AppointmentService appointmentService,
+                                  WaitlistEntryRepository waitlistRepo,
+                                  AppointmentRepository appointmentRepo,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${appointment.waitlist.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${appointment.waitlist.batch-size:500}") int batchSize) {
+        this.appointmentService = appointmentService;
+        this.waitlistRepo = waitlistRepo;
+        this.appointmentRepo = appointmentRepo;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.freedSlots = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Boşalan gelecek zaman dilimlerini kuyruğa ekler
+     * Kuyruk doluysa olay atlanır; zaman dilimi müsaitlik sorgularında yine de görünür
+     *
+     * @param event Zaman dilimi değişiklik olayı
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotChange(SlotChangeEvent event) {
+        if (event.type() != SlotChangeEvent.Type.RELEASED || !event.appointmentTime().isAfter(LocalDateTime.now()))
+            return;
+        if (!freedSlots.offer(event))
+            log.warn("Waitlist backfill queue is full, skipping freed slot {} of doctor {}",
+                    event.appointmentTime(), event.doctorId());
+    }
+
+    /**
+     * Kuyruktaki boşalan zaman dilimlerini toplu olarak işler
+     */
+    @Scheduled(fixedDelayString = "${appointment.waitlist.poll-interval-ms:1000}")
+    public void drain() {
+        List<SlotChangeEvent> batch = new ArrayList<>(Math.min(batchSize, freedSlots.size()));
+        freedSlots.drainTo(batch, batchSize);
+        if (batch.isEmpty()) return;
+
+        // Aynı doktor-güne ait olayları birleştir, tekrarlanan zaman dilimlerini ele
+        Map<DoctorDay, NavigableSet<LocalDateTime>> byDay = new HashMap<>();
+        for (SlotChangeEvent event : batch) {
+            byDay.computeIfAbsent(new DoctorDay(event.doctorId(), event.appointmentTime().toLocalDate()),
+                    key -> new TreeSet<>()).add(event.appointmentTime());
+        }
+        byDay.forEach(this::backfill);
+    }
+
+    private void backfill(DoctorDay day, NavigableSet<LocalDateTime> times) {
+        // Doktor-günün bekleme listesini tek sorguda al
+        Deque<WaitlistEntry> queue = new ArrayDeque<>(
+                waitlistRepo.findByDoctorIdAndDateOrderByCreatedAtAsc(day.doctorId(), day.date()));
+
+        for (LocalDateTime time : times) {
+            while (!queue.isEmpty()) {
+                WaitlistEntry entry = queue.poll();
+                Outcome outcome = tryBook(entry, time);
+                if (outcome == Outcome.BOOKED) break;
+                if (outcome == Outcome.SLOT_UNAVAILABLE) {
+                    // Hasta sırasını korur, bir sonraki boş zaman dilimi denenir
+                    queue.addFirst(entry);
+                    break;
+                }
+            }
+            if (queue.isEmpty()) return;
+        }
+    }
+
+    private Outcome tryBook(WaitlistEntry entry, LocalDateTime time) {
+        try {
+            return transactionTemplate.execute(status -> {
+                // Hastanın o gün bu doktorla zaten randevusu varsa listeden çıkar
+                if (appointmentRepo.existsActiveByDoctorIdAndPatientId(entry.getDoctorId(), entry.getPatientId(),
+                        entry.getDate().atStartOfDay(), entry.getDate().plusDays(1).atStartOfDay())) {
+                    waitlistRepo.deleteById(entry.getId());
+                    return Outcome.PATIENT_SKIPPED;
+                }
+                appointmentService.create(new CreateAppointmentRequest(entry.getPatientId(), entry.getDoctorId(), time));
+                waitlistRepo.deleteById(entry.getId());
+                return Outcome.BOOKED;
+            });
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.debug("Freed slot {} of doctor {} could not be backfilled: {}", time, entry.getDoctorId(), e.getMessage());
+            return Outcome.SLOT_UNAVAILABLE;
+        } catch (DataAccessException e) {
+            log.warn("Waitlist backfill failed for slot {} of doctor {}", time, entry.getDoctorId(), e);
+            return Outcome.SLOT_UNAVAILABLE;
+        }
+    }
+
+    private enum Outcome {BOOKED, PATIENT_SKIPPED, SLOT_UNAVAILABLE}
+}
@@ -0,0 +1,72 @@
+package com.clinic.appointmentsystem.application.services;
+
+import com.clinic.appointmentsystem.application.availability.WeeklyScheduleCache;
+import com.clinic.appointmentsystem.application.availability.WorkingDay;
+import com.clinic.appointmentsystem.domain.entities.WaitlistEntry;
+import com.clinic.appointmentsystem.persistence.repositories.WaitlistEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * WaitlistService - Bekleme listesi servisi
+ * 
+ * Hastaların dolu bir doktor-gün için bekleme listesine katılmasını ve ayrılmasını yönetir.
+ * Boşalan zaman dilimleri {@link WaitlistBackfillWorker} tarafından sıradaki hastaya verilir.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WaitlistService {
+
+    private final WaitlistEntryRepository waitlistRepo;
+    private final WeeklyScheduleCache weeklySchedules;
+
+    /**
+     * Hastayı doktor-gün için bekleme listesine ekler
+     * 
+     * @param patientId Hasta ID'si
+     * @param doctorId Doktor ID'si
+     * @param date Randevu beklenen gün
+     * @return Bekleme listesi kaydının ID'si
+     * @throws IllegalArgumentException Geçmiş tarih veya doktorun çalışmadığı gün için
+     * @throws IllegalStateException Hasta zaten listedeyse
+     */
+    public UUID join(UUID patientId, UUID doctorId, LocalDate date) {
+        if (date.isBefore(LocalDate.now()))
+            throw new IllegalArgumentException("APPT_PAST_DATE");
+
+        WorkingDay schedule = weeklySchedules.workingDay(doctorId, date.getDayOfWeek());
+        if (schedule == null)
+            throw new IllegalArgumentException("DOCTOR_NOT_WORKING");
+
+        if (waitlistRepo.existsByDoctorIdAndPatientIdAndDate(doctorId, patientId, date))
+            throw new IllegalStateException("ALREADY_ON_WAITLIST");
+
+        var entry = WaitlistEntry.builder()
+                .doctorId(doctorId)
+                .patientId(patientId)
+                .date(date)
+                .createdAt(LocalDateTime.now())
+                .build();
+        return waitlistRepo.save(entry).getId();
+    }
+
+    /**
+     * Hastayı bekleme listesinden çıkarır
+     * 
+     * @param patientId Hasta ID'si
+     * @param entryId Bekleme listesi kaydının ID'si
+     * @throws IllegalArgumentException Kayıt bulunamazsa veya hastaya ait değilse
+     */
+    public void leave(UUID patientId, UUID entryId) {
+        WaitlistEntry entry = waitlistRepo.findById(entryId)
+                .filter(e -> e.getPatientId().equals(patientId))
+                .orElseThrow(() -> new IllegalArgumentException("WAITLIST_ENTRY_NOT_FOUND"));
+        waitlistRepo.delete(entry);
+    }
+}
@@ -3,6 +3,7 @@ package com.clinic.appointmentsystem.domain.entities;
 import com.clinic.appointmentsystem.domain.enums.AppointmentStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -14,14 +15,13 @@ import java.util.UUID;
  * Randevu zamanı, durumu, notları ve ilişkili kullanıcı bilgilerini içerir.
  */
 @Entity
-@Table(name = "appointments",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"doctor_id", "appointment_time"}))
+@Table(name = "appointments")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Appointment {
+public class Appointment implements Persistable<UUID> {
     
     /**
      * Randevunun benzersiz kimliği
@@ -32,16 +32,18 @@ public class Appointment {
     /**
      * Randevuyu alan hasta
      * Many-to-One ilişkisi: Bir hasta birden fazla randevu alabilir
+     * Tembel (LAZY) yüklenir; kullanıcı bilgisi gereken listeler projeksiyon sorguları ile okunur
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "patient_id")
     private User patient;
 
     /**
      * Randevuyu veren doktor
      * Many-to-One ilişkisi: Bir doktor birden fazla randevu verebilir
+     * Tembel (LAZY) yüklenir; kullanıcı bilgisi gereken listeler projeksiyon sorguları ile okunur
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "doctor_id")
     private User doctor;
 
@@ -50,6 +52,12 @@ public class Appointment {
      */
     private LocalDateTime appointmentTime;
 
+    /**
+     * Randevunun bitiş zamanı (başlangıç + randevu süresi)
+     * Çakışma kontrolü veritabanındaki ex_doctor_time_overlap kısıtı ile bu alan üzerinden yapılır
+     */
+    private LocalDateTime endTime;
+
     /**
      * Randevunun durumu (PENDING, APPROVED, REJECTED)
      */
@@ -70,4 +78,24 @@ public class Appointment {
      * Randevu bilgilerinin son güncellenme tarihi
      */
     private LocalDateTime updatedAt;
+
+    /**
+     * Varlığın veritabanından yüklendiğini veya kaydedildiğini gösterir
+     * ID uygulama tarafından atandığı için yeni kayıtlar merge (SELECT) yerine doğrudan persist edilir
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
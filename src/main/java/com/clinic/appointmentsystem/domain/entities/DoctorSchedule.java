@@ -2,6 +2,8 @@ package com.clinic.appointmentsystem.domain.entities;
 
 import com.clinic.appointmentsystem.domain.enums.ShiftType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,6 +21,8 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "doctor_schedules")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @Builder
 @NoArgsConstructor
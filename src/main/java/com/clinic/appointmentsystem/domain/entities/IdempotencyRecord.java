@@ -0,0 +1,61 @@
+package com.clinic.appointmentsystem.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * IdempotencyRecord - Idempotency anahtarı varlık sınıfı
+ * 
+ * Bu sınıf Idempotency-Key başlığıyla gönderilen randevu oluşturma isteklerinin sonucunu tutar.
+ * Aynı kullanıcının aynı anahtarla tekrar gönderdiği istekler yeniden işlenmez.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    /**
+     * Kaydın benzersiz kimliği
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * İsteği gönderen kullanıcının ID'si
+     */
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    /**
+     * İstemcinin gönderdiği Idempotency-Key değeri
+     */
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    /**
+     * İlk istekte oluşturulan randevunun ID'si (işlem tamamlanana kadar null)
+     */
+    @Column(name = "appointment_id")
+    private UUID appointmentId;
+
+    /**
+     * Anahtarı ilk kullanan isteğin gövdesinin SHA-256 özeti (hex)
+     */
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    /**
+     * Anahtarın ilk kullanıldığı zaman, süre (TTL) bu alana göre hesaplanır
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,68 @@
+package com.clinic.appointmentsystem.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * SlotHold - Geçici zaman dilimi tutma varlık sınıfı
+ * 
+ * Bu sınıf hastanın randevuyu onaylamadan önce bir zaman dilimini kısa süreliğine ayırmasını temsil eder.
+ * Tutma süresi dolduğunda veya randevu oluşturulduğunda kayıt silinir.
+ */
+@Entity
+@Table(name = "slot_holds")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotHold {
+
+    /**
+     * Tutmanın benzersiz kimliği
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /**
+     * Zaman dilimi tutulan doktorun ID'si
+     */
+    @Column(name = "doctor_id", nullable = false)
+    private UUID doctorId;
+
+    /**
+     * Zaman dilimini tutan hastanın ID'si
+     */
+    @Column(name = "patient_id", nullable = false)
+    private UUID patientId;
+
+    /**
+     * Tutulan zaman diliminin başlangıcı
+     */
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    /**
+     * Tutulan zaman diliminin bitişi (başlangıç + randevu süresi)
+     */
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    /**
+     * Tutmanın sona erdiği zaman
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Tutmanın oluşturulma zamanı
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -2,6 +2,8 @@ package com.clinic.appointmentsystem.domain.entities;
 
 import com.clinic.appointmentsystem.domain.enums.Role;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -15,6 +17,8 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -63,4 +67,9 @@ public class User {
      * Kullanıcı bilgilerinin son güncellenme tarihi
      */
     private LocalDateTime updatedAt;
+
+    /**
+     * Token sürümü; artırıldığında kullanıcının önceki sürümle üretilmiş tüm token'ları geçersiz olur
+     */
+    private int tokenVersion;
 }
@@ -0,0 +1,57 @@
+package com.clinic.appointmentsystem.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * WaitlistEntry - Bekleme listesi kaydı varlık sınıfı
+ * 
+ * Bu sınıf bir hastanın belirli bir doktorun belirli bir gününde boşalacak
+ * ilk zaman dilimini beklediğini temsil eder. Kayıtlar geliş sırasına göre işlenir.
+ */
+@Entity
+@Table(name = "waitlist_entries")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistEntry {
+
+    /**
+     * Kaydın benzersiz kimliği
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /**
+     * Beklenen doktorun ID'si
+     */
+    @Column(name = "doctor_id", nullable = false)
+    private UUID doctorId;
+
+    /**
+     * Bekleyen hastanın ID'si
+     */
+    @Column(name = "patient_id", nullable = false)
+    private UUID patientId;
+
+    /**
+     * Randevu beklenen gün
+     */
+    @Column(nullable = false)
+    private LocalDate date;
+
+    /**
+     * Listeye katılma zamanı, sıra bu alana göre belirlenir
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,3 +1,23 @@
 package com.clinic.appointmentsystem.domain.enums;
 
-public enum ShiftType {MORNING, AFTERNOON, FULL_DAY}
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalTime;
+
+/**
+ * ShiftType - Vardiya türleri ve standart çalışma saatleri
+ *
+ * Vardiya saatlerinin uygulamadaki tek tanımıdır. Veritabanındaki set_shift_times
+ * tetikleyicisi (V6) aynı saatleri uygular; saatler değişirse tetikleyici de güncellenmelidir.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ShiftType {
+    MORNING(LocalTime.of(9, 0), LocalTime.of(12, 0)),     // 09:00-12:00
+    AFTERNOON(LocalTime.of(13, 0), LocalTime.of(18, 0)),  // 13:00-18:00
+    FULL_DAY(LocalTime.of(9, 0), LocalTime.of(18, 0));    // 09:00-18:00 (öğle arası hariç)
+
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+}
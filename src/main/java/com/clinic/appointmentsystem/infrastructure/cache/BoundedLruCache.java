@@ -0,0 +1,112 @@
+package com.clinic.appointmentsystem.infrastructure.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * BoundedLruCache - Boyut sınırlı, süreli (TTL) LRU önbellek
+ *
+ * En az kullanılan kayıtlar boyut sınırı aşıldığında, süresi dolan kayıtlar ise
+ * okunduklarında çıkarılır. Tüm işlemler tek bir kilit altında yapılır; kayıt sayısı
+ * sınırlı ve işlemler O(1) olduğu için kilit süresi kısadır.
+ *
+ * @param <K> Anahtar tipi
+ * @param <V> Değer tipi
+ */
+public final class BoundedLruCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * @param maxEntries En fazla kayıt sayısı
+     * @param ttlMillis Kayıtların geçerlilik süresi (ms), 0 veya negatifse süresiz
+     */
+    public BoundedLruCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis > 0 ? ttlMillis * 1_000_000L : Long.MAX_VALUE;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > BoundedLruCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Anahtara ait geçerli değeri döndürür
+     *
+     * @param key Anahtar
+     * @return Değer, yoksa veya süresi dolmuşsa null
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (System.nanoTime() - entry.createdAt > ttlNanos) {
+            entries.remove(key);
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    /**
+     * Anahtara değer yazar
+     *
+     * @param key Anahtar
+     * @param value Değer
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime()));
+    }
+
+    /**
+     * Anahtarı önbellekten çıkarır
+     *
+     * @param key Anahtar
+     */
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Koşula uyan tüm anahtarları önbellekten çıkarır
+     *
+     * @param predicate Anahtar koşulu
+     */
+    public synchronized void removeIf(Predicate<K> predicate) {
+        entries.keySet().removeIf(predicate);
+    }
+
+    /**
+     * Süresi dolmuş tüm kayıtları çıkarır
+     */
+    public synchronized void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> now - entry.createdAt > ttlNanos);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    private record Entry<V>(V value, long createdAt) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.clinic.appointmentsystem.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig - Periyodik arka plan görevleri (temizleyiciler, bekleme listesi, günlük yazımı)
+ *
+ * appointment.scheduling.enabled=false ile kapatılabilir; testler arka plan sorgularının
+ * ölçümlere karışmaması için kapatır.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "appointment.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
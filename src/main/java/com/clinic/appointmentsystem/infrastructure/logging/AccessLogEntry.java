@@ -0,0 +1,24 @@
+package com.clinic.appointmentsystem.infrastructure.logging;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * AccessLogEntry - Erişim günlüğünün tek satırı
+ *
+ * @param timestamp İsteğin tamamlandığı an
+ * @param method HTTP metodu
+ * @param route Eşleşen endpoint şablonu (ör. /api/appointments/{id}/status), yoksa istek yolu
+ * @param status HTTP durum kodu
+ * @param userId Kimliği doğrulanmış kullanıcı ID'si, yoksa null
+ * @param latencyMs İstek süresi (ms)
+ * @param sqlCount İstek boyunca hazırlanan SQL ifadesi sayısı
+ */
+public record AccessLogEntry(Instant timestamp,
+                             String method,
+                             String route,
+                             int status,
+                             UUID userId,
+                             double latencyMs,
+                             int sqlCount) {
+}
@@ -0,0 +1,81 @@
+package com.clinic.appointmentsystem.infrastructure.logging;
+
+import com.clinic.appointmentsystem.infrastructure.security.CustomUserDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AccessLogFilter - Örneklenmiş, yapılandırılmış erişim günlüğü
+ *
+ * Her /api isteği için endpoint şablonu, kullanıcı, süre, durum kodu ve SQL ifadesi sayısını ölçer.
+ * İsteklerin sample-rate oranı kadarı, ayrıca tüm sunucu hataları (5xx) ve slow-threshold-ms süresini
+ * aşan istekler {@link AccessLogWriter} üzerinden arka planda tek satır JSON olarak yazılır.
+ * Kullanıcı bilgisi için güvenlik zincirinde {@code JwtAuthenticationFilter}'dan sonra çalışır.
+ */
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final AccessLogWriter writer;
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(AccessLogWriter writer,
+                           @Value("${access-log.enabled:true}") boolean enabled,
+                           @Value("${access-log.sample-rate:0.1}") double sampleRate,
+                           @Value("${access-log.slow-threshold-ms:1000}") long slowThresholdMs) {
+        this.writer = writer;
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000L;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        SqlStatementCounter.reset();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            if (status >= 500 || elapsed >= slowThresholdNanos || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                writer.submit(new AccessLogEntry(Instant.now(), request.getMethod(), route(request), status,
+                        userId(), elapsed / 1_000_000.0, SqlStatementCounter.current()));
+            }
+        }
+    }
+
+    private static String route(HttpServletRequest request) {
+        // Şablon kullanılır (/api/appointments/{id}), ID'ler satırlara ayrı endpoint olarak yansımaz
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private static UUID userId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user
+                ? user.getId() : null;
+    }
+}
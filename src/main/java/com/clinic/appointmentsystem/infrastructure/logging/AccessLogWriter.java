@@ -0,0 +1,79 @@
+package com.clinic.appointmentsystem.infrastructure.logging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * AccessLogWriter - Erişim günlüğü satırlarını arka planda yazan bileşen
+ *
+ * İstek iş parçacıkları satırları kilitsiz {@link RingBuffer} tampona ekler ve beklemeden devam eder;
+ * JSON'a çevirme ve günlüğe yazma periyodik olarak arka planda toplu yapılır. Tampon doluysa satır
+ * atlanır ve access.log.dropped sayacı artırılır, böylece günlük maliyeti istek süresine yansımaz.
+ * Satırlar "ACCESS" adlı logger'a INFO seviyesinde yazılır.
+ */
+@Component
+public class AccessLogWriter {
+
+    private static final Logger ACCESS = LoggerFactory.getLogger("ACCESS");
+
+    private final RingBuffer<AccessLogEntry> buffer;
+    private final ObjectMapper objectMapper;
+    private final Counter dropped;
+
+    public AccessLogWriter(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${access-log.buffer-capacity:8192}") int bufferCapacity) {
+        this.buffer = new RingBuffer<>(bufferCapacity);
+        this.objectMapper = objectMapper;
+        this.dropped = Counter.builder("access.log.dropped")
+                .description("Tampon dolu olduğu için yazılmayan erişim günlüğü satırları")
+                .register(meterRegistry);
+        Gauge.builder("access.log.pending", buffer, RingBuffer::size)
+                .description("Yazılmayı bekleyen erişim günlüğü satırları")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Satırı yazılmak üzere tampona ekler, beklemez
+     *
+     * @param entry Erişim günlüğü satırı
+     */
+    public void submit(AccessLogEntry entry) {
+        if (!buffer.offer(entry)) dropped.increment();
+    }
+
+    /**
+     * Tampondaki satırları günlüğe yazar
+     */
+    @Scheduled(fixedDelayString = "${access-log.flush-interval-ms:500}")
+    public synchronized void flush() {
+        if (!ACCESS.isInfoEnabled()) {
+            buffer.drain(entry -> { }, Integer.MAX_VALUE);
+            return;
+        }
+        // Yazma sırasında gelen satırlar bir sonraki turda yazılır
+        buffer.drain(this::write, buffer.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private void write(AccessLogEntry entry) {
+        try {
+            ACCESS.info(objectMapper.writeValueAsString(entry));
+        } catch (JsonProcessingException e) {
+            dropped.increment();
+        }
+    }
+}
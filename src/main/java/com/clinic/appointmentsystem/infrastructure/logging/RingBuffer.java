@@ -0,0 +1,85 @@
+package com.clinic.appointmentsystem.infrastructure.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * RingBuffer - Kilitsiz, sınırlı, çok üreticili tek tüketicili halka tampon
+ *
+ * Üreticiler bir sonraki yuvayı compare-and-set ile ayırır ve öğeyi yuvaya yazar; tampon doluysa
+ * öğe beklemeden reddedilir. Tek tüketici yuvaları sırayla okur ve boşaltır. Ayrılmış ama henüz
+ * yazılmamış bir yuvaya gelindiğinde okuma durur, kalan öğeler bir sonraki boşaltmada alınır.
+ *
+ * @param <E> Öğe tipi
+ */
+public final class RingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+
+    // Üreticilerin ayırdığı bir sonraki sıra numarası
+    private final AtomicLong tail = new AtomicLong();
+
+    // Tüketicinin okuyacağı bir sonraki sıra numarası; sadece tüketici yazar
+    private volatile long head;
+
+    /**
+     * @param capacity En fazla öğe sayısı, bir üst ikinin kuvvetine yuvarlanır
+     * @throws IllegalArgumentException Kapasite pozitif değilse
+     */
+    public RingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30)
+            throw new IllegalArgumentException("INVALID_CAPACITY");
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Öğeyi tampona ekler (herhangi bir iş parçacığından çağrılabilir)
+     *
+     * @param element Öğe
+     * @return Eklendiyse true, tampon doluysa false
+     */
+    public boolean offer(E element) {
+        while (true) {
+            long sequence = tail.get();
+            if (sequence - head >= slots.length()) return false;
+            if (tail.compareAndSet(sequence, sequence + 1)) {
+                slots.set((int) sequence & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Tampondaki öğeleri sırayla tüketir (aynı anda tek bir iş parçacığından çağrılmalıdır)
+     *
+     * @param consumer Öğe tüketicisi
+     * @param maxElements En fazla tüketilecek öğe sayısı
+     * @return Tüketilen öğe sayısı
+     */
+    public int drain(Consumer<? super E> consumer, int maxElements) {
+        long sequence = head;
+        int count = 0;
+        while (count < maxElements) {
+            int index = (int) sequence & mask;
+            E element = slots.get(index);
+            if (element == null) break;
+            slots.set(index, null);
+            head = ++sequence;
+            count++;
+            consumer.accept(element);
+        }
+        return count;
+    }
+
+    /**
+     * @return Tampondaki yaklaşık öğe sayısı
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+}
@@ -0,0 +1,50 @@
+package com.clinic.appointmentsystem.infrastructure.logging;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.io.Serial;
+import java.util.Map;
+
+/**
+ * SqlStatementCounter - İstek başına hazırlanan SQL ifadesi sayacı
+ *
+ * Hibernate'in hazırladığı her SQL ifadesi için çağrılan bir {@link StatementInspector} olarak kaydedilir
+ * ve sayıyı iş parçacığına bağlı tutar. İkinci seviye önbellekten karşılanan okumalar sayılmaz;
+ * JDBC batch içindeki ifadeler bir kez sayılır. İfade metni değiştirilmez.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    @Serial
+    private static final long serialVersionUID = 4417085520593860521L;
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    /**
+     * Geçerli iş parçacığının sayacını sıfırlar
+     */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * @return Son sıfırlamadan bu yana geçerli iş parçacığında hazırlanan SQL ifadesi sayısı
+     */
+    public static int current() {
+        return COUNT.get()[0];
+    }
+}
@@ -1,11 +1,10 @@
 package com.clinic.appointmentsystem.infrastructure.security;
 
 import com.clinic.appointmentsystem.persistence.repositories.UserRepository;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -15,48 +14,72 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.io.Serial;
 import java.util.List;
-import java.util.UUID;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends GenericFilter {
 
     @Serial
     private static final long serialVersionUID = -8183921276155134355L;
     private final transient JwtService jwtService;
     private final transient UserRepository userRepo;
+    private final transient TokenRevocationRegistry revocations;
+
+    // stateless: kimlik doğrulanmış token'dan oluşturulur | lookup: her istekte kullanıcı veritabanından okunur
+    private final boolean stateless;
+
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   UserRepository userRepo,
+                                   TokenRevocationRegistry revocations,
+                                   @Value("${jwt.auth-mode:stateless}") String authMode) {
+        this.jwtService = jwtService;
+        this.userRepo = userRepo;
+        this.revocations = revocations;
+        this.stateless = !"lookup".equalsIgnoreCase(authMode);
+    }
 
     @Override
     public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
         String auth = ((HttpServletRequest) req).getHeader(HttpHeaders.AUTHORIZATION);
         String requestURI = ((HttpServletRequest) req).getRequestURI();
-        JwtAuthenticationFilter.log.debug("Processing request to {} with auth header: {}", requestURI, auth != null ? "present" : "missing");
 
         if (auth == null || !auth.startsWith("Bearer ")) {
-            JwtAuthenticationFilter.log.debug("No valid Bearer token found for request to {}", requestURI);
             chain.doFilter(req, res);
             return;
         }
 
         try {
             String token = auth.substring(7);
-            Claims claims = jwtService.parse(token).getBody();
+            VerifiedToken verified = jwtService.verify(token);
 
-            UUID userId = UUID.fromString(claims.getSubject());
-            var user = userRepo.findById(userId).orElse(null);
-            if (user != null) {
-                JwtAuthenticationFilter.log.debug("Authenticated user {} for request to {}", user.getEmail(), requestURI);
-                var userDetails = new CustomUserDetails(
-                        user.getId(),
-                        user.getEmail(),
-                        user.getPasswordHash(),
-                        List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole())),
+            CustomUserDetails userDetails = null;
+            if (revocations.isRevoked(verified.userId(), verified.tokenVersion())) {
+                JwtAuthenticationFilter.log.debug("Revoked token for user {} in request to {}", verified.userId(), requestURI);
+            } else if (stateless) {
+                userDetails = new CustomUserDetails(
+                        verified.userId(),
+                        verified.email(),
+                        null,
+                        List.of(new SimpleGrantedAuthority("ROLE_" + verified.role())),
                         true
                 );
+            } else {
+                var user = userRepo.findById(verified.userId()).orElse(null);
+                if (user != null) {
+                    userDetails = new CustomUserDetails(
+                            user.getId(),
+                            user.getEmail(),
+                            user.getPasswordHash(),
+                            List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole())),
+                            true
+                    );
+                } else JwtAuthenticationFilter.log.warn("User not found for ID {} in request to {}", verified.userId(), requestURI);
+            }
+
+            if (userDetails != null) {
                 var authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(authToken);
-            } else JwtAuthenticationFilter.log.warn("User not found for ID {} in request to {}", userId, requestURI);
+            }
         } catch (Exception e) {
             JwtAuthenticationFilter.log.error("Error processing JWT token for request to {}: {}", requestURI, e.getMessage());
         }
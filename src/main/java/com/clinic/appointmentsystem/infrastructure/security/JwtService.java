@@ -1,7 +1,8 @@
 package com.clinic.appointmentsystem.infrastructure.security;
 
+import com.clinic.appointmentsystem.infrastructure.cache.BoundedLruCache;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -9,9 +10,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.time.temporal.ChronoUnit;
+import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
 import java.util.UUID;
@@ -21,27 +20,56 @@ public class JwtService {
     private final Key key;
     private final long expirationMs;
 
+    // Değişmez ve iş parçacığı güvenli; her istekte yeniden oluşturulmaz
+    private final JwtParser parser;
+
+    // Son doğrulanan token'lar (jwt.token-cache.max-entries 0 ise kapalı)
+    private final BoundedLruCache<String, VerifiedToken> verified;
+
     public JwtService(@Value("${jwt.secret}") String secret,
-                      @Value("${jwt.expiration}") long expMs) {
+                      @Value("${jwt.expiration}") long expMs,
+                      @Value("${jwt.token-cache.max-entries:10000}") int cacheEntries) {
         key = Keys.hmacShaKeyFor(secret.getBytes());
         expirationMs = expMs;
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        verified = cacheEntries > 0 ? new BoundedLruCache<>(cacheEntries, expMs) : null;
     }
 
-    public String generateToken(UUID userId, String email, String role) {
-        LocalDateTime now = LocalDateTime.now();
+    public String generateToken(UUID userId, String email, String role, int tokenVersion) {
+        Instant now = Instant.now();
         return Jwts.builder()
                 .setSubject(userId.toString())
-                .setIssuedAt(Date.from(now.toInstant(ZoneOffset.UTC)))
-                .setExpiration(Date.from(now.plus(expirationMs, ChronoUnit.MILLIS).toInstant(ZoneOffset.UTC)))
-                .addClaims(Map.of("email", email, "role", role))
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plusMillis(expirationMs)))
+                .addClaims(Map.of("email", email, "role", role, "ver", tokenVersion))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    Jws<Claims> parse(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+    /**
+     * Token'ın imzasını ve süresini doğrular, kimlik bilgilerini döndürür
+     * Aynı token tekrar geldiğinde imza yeniden hesaplanmaz, sadece süresi kontrol edilir
+     *
+     * @param token JWT
+     * @return Doğrulanmış token bilgileri
+     * @throws io.jsonwebtoken.JwtException Token geçersiz veya süresi dolmuşsa
+     */
+    VerifiedToken verify(String token) {
+        if (verified != null) {
+            VerifiedToken cached = verified.get(token);
+            if (cached != null && cached.expiresAt().isAfter(Instant.now())) return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Integer tokenVersion = claims.get("ver", Integer.class);
+        VerifiedToken result = new VerifiedToken(
+                UUID.fromString(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                tokenVersion == null ? 0 : tokenVersion,
+                claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant());
+        if (verified != null) verified.put(token, result);
+        return result;
     }
 }
@@ -0,0 +1,108 @@
+package com.clinic.appointmentsystem.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * PasswordHasher - Sınırlı, ayrık iş parçacığı havuzunda BCrypt işlemleri
+ *
+ * BCrypt hesaplamaları istek iş parçacıklarında değil, sabit boyutlu bir havuzda yapılır; böylece
+ * yoğun giriş anlarında en fazla hash-threads kadar çekirdek kullanılır. Kuyruk doluysa istek
+ * beklemeden {@link RejectedExecutionException} ile reddedilir (503). Aynı anda bekleyen giriş
+ * isteği sayısı havuz ve kuyruk boyutuyla sınırlı kalır, diğer endpoint'ler etkilenmez.
+ * Havuz metrikleri (executor.*, name=password.hash) ve reddedilen istek sayısı
+ * (auth.password.hash.rejected) actuator üzerinden yayınlanır.
+ */
+@Component
+public class PasswordHasher {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    public PasswordHasher(BCryptPasswordEncoder encoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${security.password.hash-threads:0}") int threads,
+                          @Value("${security.password.queue-capacity:64}") int queueCapacity) {
+        // 0: çekirdek sayısının yarısı (en az 1)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.encoder = encoder;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.rejected = Counter.builder("auth.password.hash.rejected")
+                .description("Havuz dolu olduğu için reddedilen şifre işlemleri")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, "password.hash", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Şifreyi hashler
+     *
+     * @param rawPassword Şifre
+     * @return BCrypt hash'i
+     * @throws RejectedExecutionException Havuz ve kuyruk doluysa
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * Şifreyi kayıtlı hash ile karşılaştırır
+     *
+     * @param rawPassword Şifre
+     * @param encodedPassword Kayıtlı BCrypt hash'i
+     * @return Eşleşiyorsa true
+     * @throws RejectedExecutionException Havuz ve kuyruk doluysa
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Kayıtlı hash'in yapılandırılmış maliyetten düşük olup olmadığını kontrol eder
+     *
+     * @param encodedPassword Kayıtlı BCrypt hash'i
+     * @return Yeniden hashlenmesi gerekiyorsa true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Supplier<T> task) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new RejectedExecutionException("AUTH_BUSY");
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,140 @@
+package com.clinic.appointmentsystem.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RateLimitFilter - Kullanıcı ve IP bazlı istek sınırlama
+ *
+ * Her istemci için endpoint grubu başına bir {@link TokenBucket} tutulur. İstemci, kimliği doğrulanmışsa
+ * JWT'deki kullanıcı ID'si, doğrulanmamışsa istemcinin IP adresidir (güvenilen vekil arkasında
+ * X-Forwarded-For'daki adres); bu yüzden filtre
+ * {@link JwtAuthenticationFilter}'dan sonra çalışır. Limit aşılırsa istek veritabanına ulaşmadan
+ * 429 ve Retry-After başlığı ile reddedilir.
+ *
+ * Gruplar: auth (giriş ve kayıt), availability (müsaitlik sorguları) ve diğer tüm /api istekleri.
+ * Tamamen dolmuş kovalar periyodik olarak silinir; silinen bir kova limitte değişiklik yapmaz.
+ * Kovalar sunucu belleğinde tutulur, limitler her sunucu için ayrı uygulanır.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final RateLimitRule authRule;
+    private final RateLimitRule availabilityRule;
+    private final RateLimitRule defaultRule;
+    private final Map<String, Counter> rejected = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(MeterRegistry meterRegistry,
+                           ObjectMapper objectMapper,
+                           @Value("${security.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${security.rate-limit.auth.capacity:10}") int authCapacity,
+                           @Value("${security.rate-limit.auth.refill-per-minute:10}") int authRefill,
+                           @Value("${security.rate-limit.availability.capacity:30}") int availabilityCapacity,
+                           @Value("${security.rate-limit.availability.refill-per-minute:60}") int availabilityRefill,
+                           @Value("${security.rate-limit.default.capacity:100}") int defaultCapacity,
+                           @Value("${security.rate-limit.default.refill-per-minute:300}") int defaultRefill) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.authRule = RateLimitRule.of("auth", authCapacity, authRefill);
+        this.availabilityRule = RateLimitRule.of("availability", availabilityCapacity, availabilityRefill);
+        this.defaultRule = RateLimitRule.of("default", defaultCapacity, defaultRefill);
+        Gauge.builder("security.rate.limit.buckets", buckets, Map::size)
+                .description("Bellekte tutulan istek sınırlama kovası sayısı")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitRule rule = resolveRule(request.getRequestURI());
+        String key = rule.name() + '|' + clientKey(request);
+
+        long now = System.nanoTime();
+        long waitNanos = buckets.computeIfAbsent(key, k -> new TokenBucket(now)).tryAcquire(rule, now);
+        if (waitNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitFilter.log.debug("Rate limit exceeded for {} on {}", key, request.getRequestURI());
+        rejected.computeIfAbsent(rule.name(), name -> Counter.builder("security.rate.limit.rejected")
+                .description("İstek sınırı aşıldığı için reddedilen istekler")
+                .tag("route", name)
+                .register(meterRegistry)).increment();
+        reject(response, waitNanos);
+    }
+
+    /**
+     * Tamamen dolmuş (boştaki) kovaları siler
+     */
+    @Scheduled(fixedDelayString = "${security.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    private RateLimitRule resolveRule(String uri) {
+        if (uri.equals("/api/auth/login") || uri.equals("/api/auth/register")) return authRule;
+        if (uri.endsWith("/available-slots") || uri.endsWith("/available-slots/range")
+                || uri.endsWith("/earliest-slots") || uri.endsWith("/booked-slots")
+                || uri.endsWith("/availability") || uri.endsWith("/weekly-summary")) return availabilityRule;
+        return defaultRule;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user)
+            return "user:" + user.getId();
+        // Güvenilen vekillerin arkasında Tomcat RemoteIpValve bu adresi X-Forwarded-For'dan belirler
+        // (server.tomcat.remoteip.internal-proxies); diğer istemcilerin başlığı dikkate alınmaz
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("code", "TOO_MANY_REQUESTS");
+        body.put("message", "RATE_LIMIT_EXCEEDED");
+        body.put("timestamp", LocalDateTime.now());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,26 @@
+package com.clinic.appointmentsystem.infrastructure.security;
+
+/**
+ * RateLimitRule - Bir endpoint grubu için token kovası limiti
+ *
+ * @param name Grup adı (metrik etiketi ve kova anahtarı öneki)
+ * @param intervalNanos Bir token'ın dolma süresi (ns)
+ * @param burstNanos Kapasitenin tamamının dolma süresi (ns)
+ */
+record RateLimitRule(String name, long intervalNanos, long burstNanos) {
+
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    /**
+     * @param name Grup adı
+     * @param capacity Art arda yapılabilecek en fazla istek sayısı
+     * @param refillPerMinute Dakikada dolan token sayısı
+     * @throws IllegalArgumentException Kapasite veya dolum hızı pozitif değilse
+     */
+    static RateLimitRule of(String name, int capacity, int refillPerMinute) {
+        if (capacity <= 0 || refillPerMinute <= 0)
+            throw new IllegalArgumentException("INVALID_RATE_LIMIT: " + name);
+        long interval = NANOS_PER_MINUTE / refillPerMinute;
+        return new RateLimitRule(name, interval, interval * capacity);
+    }
+}
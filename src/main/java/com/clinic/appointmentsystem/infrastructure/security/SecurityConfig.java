@@ -1,6 +1,9 @@
 package com.clinic.appointmentsystem.infrastructure.security;
 
+import com.clinic.appointmentsystem.infrastructure.logging.AccessLogFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,6 +21,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final AccessLogFilter accessLogFilter;
     private final CustomUserDetailsService uds;
 
     @Bean
@@ -35,20 +40,38 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(accessLogFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, AccessLogFilter.class)
                 .sessionManagement(sess -> sess.sessionCreationPolicy(org.springframework.security.config.http.SessionCreationPolicy.STATELESS))
                 .build();
     }
 
+    // İstek sınırlama ve erişim günlüğü sadece güvenlik zincirinde, kimlik doğrulamadan sonra çalışır;
+    // servlet filtresi olarak ayrıca kaydedilmez
     @Bean
-    BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        var registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
     }
 
     @Bean
-    DaoAuthenticationProvider authProvider() {
+    FilterRegistrationBean<AccessLogFilter> accessLogFilterRegistration() {
+        var registration = new FilterRegistrationBean<>(accessLogFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    BCryptPasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    @Bean
+    DaoAuthenticationProvider authProvider(BCryptPasswordEncoder passwordEncoder) {
         var provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(uds);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
         return provider;
     }
 
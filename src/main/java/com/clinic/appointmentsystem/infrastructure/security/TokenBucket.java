@@ -0,0 +1,48 @@
+package com.clinic.appointmentsystem.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TokenBucket - Kilitsiz token kovası
+ *
+ * Kova durumu tek bir sayıda tutulur: kovanın tamamen dolacağı teorik an (GCRA). Her istek bu anı
+ * bir token süresi kadar ileri alır; an, şimdiden kapasite kadar token süresinden daha ileriye
+ * gidecekse istek reddedilir. Dolum ayrıca hesaplanmaz, zaman ilerledikçe kendiliğinden gerçekleşir.
+ * Güncelleme compare-and-set döngüsüyle yapılır, eşzamanlı isteklerde kilit alınmaz.
+ */
+final class TokenBucket {
+
+    // Kovanın tamamen dolacağı teorik an (System.nanoTime)
+    private final AtomicLong fullAt;
+
+    TokenBucket(long nowNanos) {
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Kovadan bir token almaya çalışır
+     *
+     * @param rule Uygulanacak limit
+     * @param nowNanos Şimdiki zaman (System.nanoTime)
+     * @return Token alındıysa 0, aksi halde bir sonraki token için beklenmesi gereken süre (ns)
+     */
+    long tryAcquire(RateLimitRule rule, long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + rule.intervalNanos();
+            long overflow = next - nowNanos - rule.burstNanos();
+            if (overflow > 0) return overflow;
+            if (fullAt.compareAndSet(current, next)) return 0;
+        }
+    }
+
+    /**
+     * Kova tamamen dolduysa true; böyle bir kovanın silinmesi limiti değiştirmez
+     *
+     * @param nowNanos Şimdiki zaman (System.nanoTime)
+     * @return Kova boşta ise true
+     */
+    boolean isIdle(long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+}
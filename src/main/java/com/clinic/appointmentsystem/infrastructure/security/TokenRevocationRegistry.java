@@ -0,0 +1,73 @@
+package com.clinic.appointmentsystem.infrastructure.security;
+
+import com.clinic.appointmentsystem.application.events.UserEmailChangeEvent;
+import com.clinic.appointmentsystem.infrastructure.cache.BoundedLruCache;
+import com.clinic.appointmentsystem.persistence.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * TokenRevocationRegistry - Kullanıcı token sürümüne dayalı token iptali
+ *
+ * Her token üretildiği andaki kullanıcı token sürümünü (ver) taşır; sürüm veritabanında tutulur ve
+ * artırıldığında önceki token'ların tümü geçersiz olur. Güncel sürüm kullanıcı başına kısa süreli
+ * (jwt.revocation.cache-ttl-ms) önbellekte tutulur, böylece her istekte veritabanı okunmaz.
+ * Sürümü artıran sunucu kendi önbelleğini hemen yeniler; diğer sunucular iptali en geç önbellek
+ * süresi dolunca görür.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    // Kullanıcı silinmişse tüm token'lar geçersizdir
+    private static final int USER_NOT_FOUND = Integer.MAX_VALUE;
+
+    private final UserRepository userRepo;
+
+    // Kullanıcı ID'si -> güncel token sürümü
+    private final BoundedLruCache<UUID, Integer> versions;
+
+    public TokenRevocationRegistry(UserRepository userRepo,
+                                   @Value("${jwt.revocation.cache-max-entries:10000}") int maxEntries,
+                                   @Value("${jwt.revocation.cache-ttl-ms:30000}") long ttlMs) {
+        this.userRepo = userRepo;
+        this.versions = new BoundedLruCache<>(maxEntries, ttlMs);
+    }
+
+    /**
+     * Kullanıcının önbellekteki token sürümünü siler; sonraki kontrol güncel sürümü veritabanından okur
+     *
+     * @param userId Kullanıcı ID'si
+     */
+    public void refresh(UUID userId) {
+        versions.remove(userId);
+    }
+
+    /**
+     * Email değişikliği kaydedildikten sonra bu sunucudaki token sürümünü yeniler
+     *
+     * @param event Email değişiklik olayı
+     */
+    @TransactionalEventListener
+    public void onEmailChange(UserEmailChangeEvent event) {
+        refresh(event.userId());
+    }
+
+    /**
+     * Token'ın iptal edilip edilmediğini kontrol eder
+     *
+     * @param userId Kullanıcı ID'si
+     * @param tokenVersion Token'daki sürüm
+     * @return Token sürümü kullanıcının güncel sürümünden eskiyse veya kullanıcı yoksa true
+     */
+    public boolean isRevoked(UUID userId, int tokenVersion) {
+        Integer current = versions.get(userId);
+        if (current == null) {
+            current = userRepo.findTokenVersion(userId).orElse(USER_NOT_FOUND);
+            versions.put(userId, current);
+        }
+        return tokenVersion < current;
+    }
+}
@@ -0,0 +1,17 @@
+package com.clinic.appointmentsystem.infrastructure.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * İmzası doğrulanmış JWT'nin kimlik bilgileri
+ *
+ * @param userId Kullanıcı ID'si (sub)
+ * @param email Kullanıcı email adresi
+ * @param role Kullanıcı rolü (PATIENT, DOCTOR)
+ * @param tokenVersion Token üretildiğindeki kullanıcı token sürümü (ver, yoksa 0)
+ * @param issuedAt Token'ın üretilme zamanı (iat)
+ * @param expiresAt Token'ın geçerlilik sonu (exp)
+ */
+public record VerifiedToken(UUID userId, String email, String role, int tokenVersion, Instant issuedAt, Instant expiresAt) {
+}
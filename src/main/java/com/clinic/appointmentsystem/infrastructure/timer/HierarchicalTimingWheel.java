@@ -0,0 +1,123 @@
+package com.clinic.appointmentsystem.infrastructure.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * HierarchicalTimingWheel - Süresi dolan kayıtları toplu bildiren hiyerarşik zamanlama çarkı
+ *
+ * En alt seviye {@code tickMillis} çözünürlüklü {@code wheelSize} kovadan oluşur; her üst seviyenin
+ * bir kovası alt seviyenin tam bir turunu kapsar. Uzak zamanlı kayıtlar üst seviyelerde bekler ve
+ * zamanı geldiğinde alt seviyelere indirilir (cascade). Ekleme O(1), her tık sadece tek bir kovayı işler;
+ * binlerce kayıt için öncelik kuyruğu veya kayıt başına zamanlayıcı gerekmez.
+ * Kayıtlar iptal edilmez; iptal edilen kayıtlar süresi dolduğunda çağıran tarafından yok sayılmalıdır.
+ *
+ * @param <T> Kayıt tipi
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final Level<T> root;
+    private final long tickMillis;
+    private long currentTime;
+
+    /**
+     * @param tickMillis En alt seviyenin çözünürlüğü (ms)
+     * @param wheelSize Her seviyedeki kova sayısı
+     * @param startMillis Başlangıç zamanı (ms)
+     */
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2)
+            throw new IllegalArgumentException("Invalid timing wheel configuration");
+        this.tickMillis = tickMillis;
+        this.root = new Level<>(tickMillis, wheelSize);
+        this.currentTime = startMillis - startMillis % tickMillis;
+    }
+
+    /**
+     * Kaydı belirtilen zamanda süresi dolacak şekilde ekler
+     * Geçmiş bir zaman verilirse kayıt bir sonraki tıkta bildirilir
+     *
+     * @param item Kayıt
+     * @param expiresAtMillis Süre dolma zamanı (ms)
+     */
+    public synchronized void add(T item, long expiresAtMillis) {
+        root.add(new Entry<>(item, Math.max(expiresAtMillis, currentTime)), currentTime);
+    }
+
+    /**
+     * Çarkı verilen zamana kadar ilerletir ve süresi dolan kayıtları bildirir
+     *
+     * @param nowMillis Şimdiki zaman (ms)
+     * @param onExpired Süresi dolan her kayıt için çağrılır
+     */
+    public void advance(long nowMillis, Consumer<T> onExpired) {
+        List<T> expired = new ArrayList<>();
+        synchronized (this) {
+            while (currentTime + tickMillis <= nowMillis) {
+                root.expire(currentTime, expired);
+                currentTime += tickMillis;
+                root.cascade(currentTime);
+            }
+        }
+        // Bildirimler kilit dışında yapılır
+        expired.forEach(onExpired);
+    }
+
+    private record Entry<T>(T item, long expiresAt) {
+    }
+
+    /**
+     * Tek bir çark seviyesi; kovası dolan kayıtlar bir alt seviyeye indirilir
+     */
+    private static final class Level<T> {
+        private final long tickMillis;
+        private final long intervalMillis;
+        private final List<List<Entry<T>>> buckets;
+        private Level<T> overflow;
+        private Level<T> lower;
+
+        private Level(long tickMillis, int wheelSize) {
+            this.tickMillis = tickMillis;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) buckets.add(new ArrayList<>());
+        }
+
+        private void add(Entry<T> entry, long currentTime) {
+            long windowStart = currentTime - currentTime % tickMillis;
+            if (entry.expiresAt() < windowStart + intervalMillis) {
+                bucket(entry.expiresAt()).add(entry);
+                return;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(intervalMillis, buckets.size());
+                overflow.lower = this;
+            }
+            overflow.add(entry, currentTime);
+        }
+
+        private List<Entry<T>> bucket(long time) {
+            return buckets.get((int) ((time / tickMillis) % buckets.size()));
+        }
+
+        // Sadece en alt seviyede çağrılır: [time, time + tick) aralığındaki kayıtların süresi dolmuştur
+        private void expire(long time, List<T> expired) {
+            List<Entry<T>> bucket = bucket(time);
+            for (Entry<T> entry : bucket) expired.add(entry.item());
+            bucket.clear();
+        }
+
+        // Üst seviyelerden başlayarak zamanı gelen kovaları bir alt seviyeye indirir
+        private void cascade(long currentTime) {
+            if (overflow != null) overflow.cascade(currentTime);
+            if (lower == null || currentTime % tickMillis != 0) return;
+
+            List<Entry<T>> bucket = bucket(currentTime);
+            if (bucket.isEmpty()) return;
+            List<Entry<T>> moved = new ArrayList<>(bucket);
+            bucket.clear();
+            for (Entry<T> entry : moved) lower.add(entry, currentTime);
+        }
+    }
+}
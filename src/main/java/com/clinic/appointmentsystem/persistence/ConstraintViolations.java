@@ -0,0 +1,42 @@
+package com.clinic.appointmentsystem.persistence;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+/**
+ * ConstraintViolations - Veritabanı kısıt ihlalinden kısıt adını çıkaran yardımcı
+ *
+ * Hibernate 6.4'ün PostgreSQL ayrıştırıcısı exclusion kısıtı ihlallerinde (SQLState 23P01) kısıt adını
+ * null döndürür. Bu yüzden ad öncelikle sürücünün sunucu hata mesajından okunur; JDBC batch hatalarında
+ * asıl hata zincirdeki sonraki istisnadır.
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * İhlal edilen kısıtın adını döndürür
+     *
+     * @param e Veri bütünlüğü hatası
+     * @return Kısıt adı, bulunamazsa null
+     */
+    public static String constraintName(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = next(cause)) {
+            if (cause instanceof PSQLException psql) {
+                ServerErrorMessage message = psql.getServerErrorMessage();
+                if (message != null && message.getConstraint() != null) return message.getConstraint();
+            }
+        }
+        return e.getCause() instanceof ConstraintViolationException cve ? cve.getConstraintName() : null;
+    }
+
+    private static Throwable next(Throwable cause) {
+        if (cause.getCause() != null) return cause.getCause();
+        return cause instanceof SQLException sql ? sql.getNextException() : null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.clinic.appointmentsystem.persistence.projections;
+
+import com.clinic.appointmentsystem.domain.enums.AppointmentStatus;
+import com.clinic.appointmentsystem.domain.enums.Role;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * AppointmentListRow - Randevu listesi projeksiyonu
+ * 
+ * Hasta ve doktor randevu listelerinde kullanılan hafif sorgu sonucu.
+ * Randevu ve kullanıcı entity'leri yüklenmeden sadece görünümlerin ihtiyaç duyduğu kolonları taşır.
+ * Karşı taraf, hasta listesinde doktor, doktor listesinde hastadır (parola özeti seçilmez).
+ */
+public record AppointmentListRow(
+        UUID id,
+        LocalDateTime appointmentTime,
+        AppointmentStatus status,
+        String note,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        UUID userId,
+        String userEmail,
+        String userFirstName,
+        String userLastName,
+        Role userRole,
+        LocalDateTime userCreatedAt,
+        LocalDateTime userUpdatedAt
+) {
+}
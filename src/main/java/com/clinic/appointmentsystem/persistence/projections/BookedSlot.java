@@ -0,0 +1,17 @@
+package com.clinic.appointmentsystem.persistence.projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * BookedSlot - Dolu randevu projeksiyonu
+ * 
+ * Müsaitlik hesaplamalarında kullanılan hafif sorgu sonucu.
+ * Randevu entity'si ve ilişkili kullanıcılar yüklenmeden sadece doktor ve zaman aralığı bilgisi taşır.
+ */
+public record BookedSlot(
+        UUID doctorId,
+        LocalDateTime appointmentTime,
+        LocalDateTime endTime
+) {
+}
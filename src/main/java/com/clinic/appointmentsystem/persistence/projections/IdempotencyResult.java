@@ -0,0 +1,14 @@
+package com.clinic.appointmentsystem.persistence.projections;
+
+import java.util.UUID;
+
+/**
+ * IdempotencyResult - Tamamlanmış idempotency anahtarı projeksiyonu
+ * 
+ * Anahtarla oluşturulan randevunun ID'sini ve anahtarı ilk kullanan isteğin özetini taşır.
+ */
+public record IdempotencyResult(
+        UUID appointmentId,
+        String requestHash
+) {
+}
@@ -0,0 +1,29 @@
+package com.clinic.appointmentsystem.persistence.projections;
+
+import com.clinic.appointmentsystem.domain.enums.AppointmentStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Toplu durum güncellemesinde değişen tek bir randevunun projeksiyonu
+ * Zaman dilimi olaylarının yayınlanabilmesi için önceki durum da döndürülür
+ *
+ * @param id Randevu ID'si
+ * @param appointmentTime Randevu zamanı
+ * @param previousStatus Güncellemeden önceki durum
+ */
+public record StatusTransition(UUID id, LocalDateTime appointmentTime, AppointmentStatus previousStatus) {
+
+    /**
+     * Native sorgunun döndürdüğü satırı (id, appointment_time, previous_status) projeksiyona çevirir
+     *
+     * @param row Sorgu satırı
+     * @return Durum geçişi
+     */
+    public static StatusTransition fromRow(Object[] row) {
+        LocalDateTime time = row[1] instanceof Timestamp ts ? ts.toLocalDateTime() : (LocalDateTime) row[1];
+        return new StatusTransition((UUID) row[0], time, AppointmentStatus.valueOf((String) row[2]));
+    }
+}
@@ -1,11 +1,22 @@
 package com.clinic.appointmentsystem.persistence.repositories;
 
 import com.clinic.appointmentsystem.domain.entities.Appointment;
+import com.clinic.appointmentsystem.domain.enums.AppointmentStatus;
+import com.clinic.appointmentsystem.persistence.projections.AppointmentListRow;
+import com.clinic.appointmentsystem.persistence.projections.BookedSlot;
+import com.clinic.appointmentsystem.persistence.projections.StatusTransition;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,36 +39,80 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
     boolean existsByDoctorIdAndAppointmentTime(UUID doctorId, LocalDateTime appointmentTime);
 
     /**
-     * Belirli bir hastanın tüm randevularını getirir
-     * Hasta ve doktor bilgileriyle birlikte (LEFT JOIN FETCH)
+     * Belirli bir hastanın randevularını (randevu zamanı, ID) sırasında imleç ile sayfalı getirir
+     * Entity yüklenmez; randevu ve doktor kolonları projeksiyon olarak seçilir
      * 
      * @param patientId Hasta ID'si
-     * @return Hasta randevularının listesi
+     * @param from Başlangıç zamanı (dahil)
+     * @param to Bitiş zamanı (hariç)
+     * @param statuses Listelenecek durumlar
+     * @param afterTime Önceki sayfanın son randevu zamanı (ilk sayfada from)
+     * @param afterId Önceki sayfanın son randevu ID'si (ilk sayfada en küçük UUID)
+     * @param limit Getirilecek en fazla randevu sayısı
+     * @return Hasta randevularının sayfası
      */
-    @Query("SELECT a FROM Appointment a LEFT JOIN FETCH a.patient LEFT JOIN FETCH a.doctor WHERE a.patient.id = :patientId")
-    List<Appointment> findByPatientId(@Param("patientId") UUID patientId);
+    @Query("SELECT new com.clinic.appointmentsystem.persistence.projections.AppointmentListRow(" +
+            "a.id, a.appointmentTime, a.status, a.note, a.createdAt, a.updatedAt, " +
+            "u.id, u.email, u.firstName, u.lastName, u.role, u.createdAt, u.updatedAt) " +
+            "FROM Appointment a JOIN a.doctor u " +
+            "WHERE a.patient.id = :patientId " +
+            "AND a.appointmentTime >= :from AND a.appointmentTime < :to " +
+            "AND a.status IN :statuses " +
+            "AND (a.appointmentTime > :afterTime OR (a.appointmentTime = :afterTime AND a.id > :afterId)) " +
+            "ORDER BY a.appointmentTime, a.id")
+    List<AppointmentListRow> findPageByPatientId(
+            @Param("patientId") UUID patientId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("statuses") Collection<AppointmentStatus> statuses,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
 
     /**
-     * Belirli bir doktorun tüm randevularını getirir
-     * Hasta ve doktor bilgileriyle birlikte (LEFT JOIN FETCH)
+     * Belirli bir doktorun randevularını (randevu zamanı, ID) sırasında imleç ile sayfalı getirir
+     * Entity yüklenmez; randevu ve hasta kolonları projeksiyon olarak seçilir
      * 
      * @param doctorId Doktor ID'si
-     * @return Doktor randevularının listesi
+     * @param from Başlangıç zamanı (dahil)
+     * @param to Bitiş zamanı (hariç)
+     * @param statuses Listelenecek durumlar
+     * @param afterTime Önceki sayfanın son randevu zamanı (ilk sayfada from)
+     * @param afterId Önceki sayfanın son randevu ID'si (ilk sayfada en küçük UUID)
+     * @param limit Getirilecek en fazla randevu sayısı
+     * @return Doktor randevularının sayfası
      */
-    @Query("SELECT a FROM Appointment a LEFT JOIN FETCH a.patient LEFT JOIN FETCH a.doctor WHERE a.doctor.id = :doctorId")
-    List<Appointment> findByDoctorId(@Param("doctorId") UUID doctorId);
+    @Query("SELECT new com.clinic.appointmentsystem.persistence.projections.AppointmentListRow(" +
+            "a.id, a.appointmentTime, a.status, a.note, a.createdAt, a.updatedAt, " +
+            "u.id, u.email, u.firstName, u.lastName, u.role, u.createdAt, u.updatedAt) " +
+            "FROM Appointment a JOIN a.patient u " +
+            "WHERE a.doctor.id = :doctorId " +
+            "AND a.appointmentTime >= :from AND a.appointmentTime < :to " +
+            "AND a.status IN :statuses " +
+            "AND (a.appointmentTime > :afterTime OR (a.appointmentTime = :afterTime AND a.id > :afterId)) " +
+            "ORDER BY a.appointmentTime, a.id")
+    List<AppointmentListRow> findPageByDoctorId(
+            @Param("doctorId") UUID doctorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("statuses") Collection<AppointmentStatus> statuses,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
 
     /**
      * Belirli bir doktorun belirli tarih aralığındaki randevularını getirir
      * Reddedilmiş randevular hariç tutulur
-     * Hasta ve doktor bilgileriyle birlikte (LEFT JOIN FETCH)
+     * Hasta ve doktor yüklenmez (sadece ID'leri kullanılır)
      * 
      * @param doctorId Doktor ID'si
      * @param startDate Başlangıç tarihi
      * @param endDate Bitiş tarihi
      * @return Tarih aralığındaki randevuların listesi
      */
-    @Query("SELECT a FROM Appointment a LEFT JOIN FETCH a.patient LEFT JOIN FETCH a.doctor " +
+    @Query("SELECT a FROM Appointment a " +
             "WHERE a.doctor.id = :doctorId " +
             "AND a.appointmentTime BETWEEN :startDate AND :endDate " +
             "AND a.status != 'REJECTED'")
@@ -67,51 +122,195 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
             @Param("endDate") LocalDateTime endDate
     );
 
+    /**
+     * Belirli bir doktorun belirli zaman aralığında başlayan dolu randevularını getirir
+     * Sadece randevu zaman aralığı seçilir, entity ve ilişkili kullanıcılar yüklenmez
+     * Reddedilmiş randevular hariç tutulur
+     *
+     * @param doctorId Doktor ID'si
+     * @param from Başlangıç zamanı (dahil)
+     * @param to Bitiş zamanı (hariç)
+     * @return Dolu randevu projeksiyonlarının listesi
+     */
+    @Query("SELECT new com.clinic.appointmentsystem.persistence.projections.BookedSlot(a.doctor.id, a.appointmentTime, a.endTime) " +
+            "FROM Appointment a " +
+            "WHERE a.doctor.id = :doctorId " +
+            "AND a.appointmentTime >= :from AND a.appointmentTime < :to " +
+            "AND a.status != 'REJECTED'")
+    List<BookedSlot> findBookedSlotsByDoctorId(
+            @Param("doctorId") UUID doctorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Tüm doktorların belirli zaman aralığındaki dolu randevularını getirir
+     * Sadece doktor ID'si ve randevu zaman aralığı seçilir
+     * Reddedilmiş randevular hariç tutulur
+     *
+     * @param from Başlangıç zamanı (dahil)
+     * @param to Bitiş zamanı (hariç)
+     * @return Dolu randevu projeksiyonlarının listesi
+     */
+    @Query("SELECT new com.clinic.appointmentsystem.persistence.projections.BookedSlot(a.doctor.id, a.appointmentTime, a.endTime) " +
+            "FROM Appointment a " +
+            "WHERE a.appointmentTime >= :from AND a.appointmentTime < :to " +
+            "AND a.status != 'REJECTED'")
+    List<BookedSlot> findAllBookedSlots(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Hastanın doktorla belirli zaman aralığında reddedilmemiş bir randevusu olup olmadığını kontrol eder
+     * Bekleme listesinden otomatik randevu verilirken aynı güne ikinci randevu verilmemesi için kullanılır
+     *
+     * @param doctorId Doktor ID'si
+     * @param patientId Hasta ID'si
+     * @param from Başlangıç zamanı (dahil)
+     * @param to Bitiş zamanı (hariç)
+     * @return Randevu varsa true
+     */
+    @Query("SELECT COUNT(a) > 0 FROM Appointment a " +
+            "WHERE a.doctor.id = :doctorId AND a.patient.id = :patientId " +
+            "AND a.appointmentTime >= :from AND a.appointmentTime < :to " +
+            "AND a.status != 'REJECTED'")
+    boolean existsActiveByDoctorIdAndPatientId(
+            @Param("doctorId") UUID doctorId,
+            @Param("patientId") UUID patientId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
     /**
      * Belirli bir doktorun belirli zaman aralığında randevu çakışması olup olmadığını kontrol eder
-     * 
+     * Saklanan bitiş zamanı kullanıldığı için sorgu indekslenebilir (sargable) aralık karşılaştırmasıdır
+     *
      * @param doctorId Doktor ID'si
      * @param startTime Başlangıç zamanı
      * @param endTime Bitiş zamanı
-     * @param durationMinutes Randevu süresi (dakika)
      * @return Çakışma varsa true, yoksa false
      */
     @Query(value = "SELECT COUNT(*) > 0 FROM appointments a " +
             "WHERE a.doctor_id = :doctorId " +
             "AND a.status != 'REJECTED' " +
-            "AND ((a.appointment_time >= :startTime AND a.appointment_time < :endTime) " +
-            "OR (a.appointment_time <= :startTime AND a.appointment_time + INTERVAL '1 minute' * :durationMinutes > :startTime))",
+            "AND a.appointment_time < :endTime AND a.end_time > :startTime",
             nativeQuery = true)
     boolean existsByDoctorIdAndTimeRange(
             @Param("doctorId") UUID doctorId,
             @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime,
-            @Param("durationMinutes") int durationMinutes
+            @Param("endTime") LocalDateTime endTime
     );
 
     /**
-     * Belirli bir doktorun belirli zaman aralığında randevu çakışması olup olmadığını kontrol eder
-     * Belirli bir randevu hariç tutulur (yeniden planlama için)
-     * 
+     * Doktor-gün için işlem (transaction) süresince geçerli PostgreSQL advisory kilidini alır
+     * Kilit commit veya rollback ile otomatik olarak bırakılır
+     *
+     * @param doctorKey Doktor ID'sinden türetilen anahtar
+     * @param dayKey Tarihten türetilen anahtar (epoch gün)
+     * @return Her zaman 1
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:doctorKey, :dayKey)", nativeQuery = true)
+    Integer lockDoctorDay(@Param("doctorKey") int doctorKey, @Param("dayKey") int dayKey);
+
+    /**
+     * Çakışma kısıtının (ex_doctor_time_overlap) kontrolünü işlem sonuna veya {@link #checkTimeOverlapNow()} çağrısına erteler
+     * Toplu zaman kaydırmada satırların ara durumda birbiriyle çakışmasına izin verir
+     * Sadece appointments tablosunu ilgilendirdiği bildirilir, böylece ikinci seviye önbellek boşaltılmaz
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "appointments"))
+    @Query(value = "SET CONSTRAINTS ex_doctor_time_overlap DEFERRED", nativeQuery = true)
+    void deferTimeOverlapCheck();
+
+    /**
+     * Ertelenmiş çakışma kısıtını hemen kontrol eder
+     * Çakışma varsa kısıt ihlali hatası bu çağrıda oluşur
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "appointments"))
+    @Query(value = "SET CONSTRAINTS ex_doctor_time_overlap IMMEDIATE", nativeQuery = true)
+    void checkTimeOverlapNow();
+
+    /**
+     * Doktora ait randevuların durumunu tek UPDATE ile günceller
+     * Satırlar güncellemeden önce kilitlenir; önceki durum RETURNING ile döndürülür
+     *
+     * @param doctorId Doktor ID'si (başka doktorların randevuları güncellenmez)
+     * @param ids Randevu ID'leri
+     * @param status Yeni durum
+     * @param now Güncelleme zamanı
+     * @return Güncellenen satırlar (id, appointment_time, previous_status)
+     */
+    @Query(value = "WITH target AS (" +
+            "SELECT id, status FROM appointments WHERE id IN (:ids) AND doctor_id = :doctorId FOR UPDATE) " +
+            "UPDATE appointments a SET status = :status, updated_at = :now " +
+            "FROM target t WHERE a.id = t.id " +
+            "RETURNING a.id, a.appointment_time, t.status",
+            nativeQuery = true)
+    List<Object[]> updateStatusByIdsReturningRows(
+            @Param("doctorId") UUID doctorId,
+            @Param("ids") Collection<UUID> ids,
+            @Param("status") String status,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Doktorun bir gündeki belirli durumdaki tüm randevularının durumunu tek UPDATE ile günceller
+     *
      * @param doctorId Doktor ID'si
-     * @param startTime Başlangıç zamanı
-     * @param endTime Bitiş zamanı
-     * @param durationMinutes Randevu süresi (dakika)
-     * @param excludeAppointmentId Hariç tutulacak randevu ID'si
-     * @return Çakışma varsa true, yoksa false
+     * @param from Gün başlangıcı (dahil)
+     * @param to Gün bitişi (hariç)
+     * @param currentStatus Güncellenecek randevuların mevcut durumu
+     * @param status Yeni durum
+     * @param now Güncelleme zamanı
+     * @return Güncellenen satırlar (id, appointment_time, previous_status)
      */
-    @Query(value = "SELECT COUNT(*) > 0 FROM appointments a " +
-            "WHERE a.doctor_id = :doctorId " +
-            "AND a.id != :excludeAppointmentId " +
-            "AND a.status != 'REJECTED' " +
-            "AND ((a.appointment_time >= :startTime AND a.appointment_time < :endTime) " +
-            "OR (a.appointment_time <= :startTime AND a.appointment_time + INTERVAL '1 minute' * :durationMinutes > :startTime))",
+    @Query(value = "WITH target AS (" +
+            "SELECT id, status FROM appointments WHERE doctor_id = :doctorId " +
+            "AND appointment_time >= :from AND appointment_time < :to " +
+            "AND status = :currentStatus FOR UPDATE) " +
+            "UPDATE appointments a SET status = :status, updated_at = :now " +
+            "FROM target t WHERE a.id = t.id " +
+            "RETURNING a.id, a.appointment_time, t.status",
             nativeQuery = true)
-    boolean existsByDoctorIdAndTimeRangeExcludingAppointment(
+    List<Object[]> updateStatusByDayReturningRows(
             @Param("doctorId") UUID doctorId,
-            @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime,
-            @Param("durationMinutes") int durationMinutes,
-            @Param("excludeAppointmentId") UUID excludeAppointmentId
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("currentStatus") String currentStatus,
+            @Param("status") String status,
+            @Param("now") LocalDateTime now
     );
+
+    /**
+     * Doktora ait randevuların durumunu tek UPDATE ile günceller
+     *
+     * @param doctorId Doktor ID'si
+     * @param ids Randevu ID'leri
+     * @param status Yeni durum
+     * @return Güncellenen randevuların önceki durumları
+     */
+    default List<StatusTransition> updateStatusByIds(UUID doctorId, Collection<UUID> ids, AppointmentStatus status) {
+        return updateStatusByIdsReturningRows(doctorId, ids, status.name(), LocalDateTime.now()).stream()
+                .map(StatusTransition::fromRow)
+                .toList();
+    }
+
+    /**
+     * Doktorun bir gündeki belirli durumdaki tüm randevularının durumunu tek UPDATE ile günceller
+     *
+     * @param doctorId Doktor ID'si
+     * @param date Gün
+     * @param currentStatus Güncellenecek randevuların mevcut durumu
+     * @param status Yeni durum
+     * @return Güncellenen randevuların önceki durumları
+     */
+    default List<StatusTransition> updateStatusByDay(UUID doctorId, LocalDate date,
+                                                     AppointmentStatus currentStatus, AppointmentStatus status) {
+        return updateStatusByDayReturningRows(doctorId, date.atStartOfDay(), date.plusDays(1).atStartOfDay(),
+                currentStatus.name(), status.name(), LocalDateTime.now()).stream()
+                .map(StatusTransition::fromRow)
+                .toList();
+    }
 }
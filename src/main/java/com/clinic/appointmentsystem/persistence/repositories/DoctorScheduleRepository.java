@@ -1,12 +1,16 @@
 package com.clinic.appointmentsystem.persistence.repositories;
 
 import com.clinic.appointmentsystem.domain.entities.DoctorSchedule;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,11 +24,13 @@ public interface DoctorScheduleRepository extends JpaRepository<DoctorSchedule,
     
     /**
      * Belirli bir doktorun belirli bir gündeki çalışma programını getirir
+     * Sonuç sorgu önbelleğinde tutulur, doctor_schedules tablosu değiştiğinde geçersiz olur
      * 
      * @param doctorId Doktor ID'si
      * @param dayOfWeek Haftanın günü (MONDAY, TUESDAY, vb.)
      * @return Doktorun o günkü çalışma programı
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT ds FROM DoctorSchedule ds WHERE ds.doctor.id = :doctorId AND ds.dayOfWeek = :dayOfWeek AND ds.isWorkingDay = true")
     DoctorSchedule findByDoctorIdAndDayOfWeek(@Param("doctorId") UUID doctorId, @Param("dayOfWeek") DayOfWeek dayOfWeek);
 
@@ -37,6 +43,25 @@ public interface DoctorScheduleRepository extends JpaRepository<DoctorSchedule,
     @Query("SELECT ds FROM DoctorSchedule ds WHERE ds.doctor.id = :doctorId AND ds.isWorkingDay = true")
     List<DoctorSchedule> findAllWorkingDaysByDoctorId(@Param("doctorId") UUID doctorId);
 
+    /**
+     * Tüm doktorların çalışma günlerini doktor bilgileriyle birlikte getirir
+     * Klinik genelindeki müsaitlik aramaları için tek sorguda yüklenir (JOIN FETCH)
+     * 
+     * @return Tüm çalışma programlarının listesi
+     */
+    @Query("SELECT ds FROM DoctorSchedule ds JOIN FETCH ds.doctor WHERE ds.isWorkingDay = true")
+    List<DoctorSchedule> findAllWorkingDays();
+
+    /**
+     * Birden fazla doktorun çalışma günlerini doktor bilgileriyle birlikte tek sorguda getirir
+     * Toplu randevu oluşturma için kullanılır (JOIN FETCH)
+     * 
+     * @param doctorIds Doktor ID'leri
+     * @return Doktorların çalışma programlarının listesi
+     */
+    @Query("SELECT ds FROM DoctorSchedule ds JOIN FETCH ds.doctor WHERE ds.doctor.id IN :doctorIds AND ds.isWorkingDay = true")
+    List<DoctorSchedule> findAllWorkingDaysByDoctorIdIn(@Param("doctorIds") Collection<UUID> doctorIds);
+
     /**
      * Belirli bir doktorun belirli bir günde ve zaman aralığında randevusu olup olmadığını kontrol eder
      * Tam gün vardiyasında öğle arası çakışması kontrolü için kullanılır
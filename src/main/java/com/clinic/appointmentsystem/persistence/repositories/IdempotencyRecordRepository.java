@@ -0,0 +1,98 @@
+package com.clinic.appointmentsystem.persistence.repositories;
+
+import com.clinic.appointmentsystem.domain.entities.IdempotencyRecord;
+import com.clinic.appointmentsystem.persistence.projections.IdempotencyResult;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * IdempotencyRecordRepository - Idempotency anahtarı veri erişim katmanı
+ * 
+ * Bu repository Idempotency-Key kayıtlarının sahiplenilmesi, tamamlanması,
+ * sorgulanması ve süresi dolanların silinmesi işlemlerini sağlar.
+ */
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, UUID> {
+
+    /**
+     * Kullanıcı için anahtarı sahiplenir
+     * Anahtar yoksa veya süresi dolmuşsa kayıt yazılır; geçerli bir kayıt varsa hiçbir şey yapılmaz.
+     * Aynı anahtarı eşzamanlı sahiplenmeye çalışan işlem, ilk işlem bitene kadar bekler.
+     * Etkilenen tablo bildirilir; bildirilmezse Hibernate tüm ikinci seviye önbelleği boşaltır.
+     * 
+     * @param userId Kullanıcı ID'si
+     * @param key Idempotency anahtarı
+     * @param requestHash İstek gövdesinin özeti
+     * @param now Şimdiki zaman
+     * @param cutoff Bu zamandan önce oluşturulan kayıtlar süresi dolmuş kabul edilir
+     * @return Anahtar sahiplenildiyse 1, geçerli bir kayıt zaten varsa 0
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_keys"))
+    @Query(value = "INSERT INTO idempotency_keys (id, user_id, idempotency_key, request_hash, appointment_id, created_at) " +
+            "VALUES (gen_random_uuid(), :userId, :key, :requestHash, NULL, :now) " +
+            "ON CONFLICT (user_id, idempotency_key) DO UPDATE " +
+            "SET request_hash = EXCLUDED.request_hash, appointment_id = NULL, created_at = EXCLUDED.created_at " +
+            "WHERE idempotency_keys.created_at < :cutoff",
+            nativeQuery = true)
+    int claim(
+            @Param("userId") UUID userId,
+            @Param("key") String key,
+            @Param("requestHash") String requestHash,
+            @Param("now") LocalDateTime now,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+
+    /**
+     * Sahiplenilen anahtara oluşturulan randevunun ID'sini yazar
+     * 
+     * @param userId Kullanıcı ID'si
+     * @param key Idempotency anahtarı
+     * @param appointmentId Oluşturulan randevunun ID'si
+     * @return Güncellenen kayıt sayısı
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.appointmentId = :appointmentId " +
+            "WHERE r.userId = :userId AND r.idempotencyKey = :key")
+    int complete(
+            @Param("userId") UUID userId,
+            @Param("key") String key,
+            @Param("appointmentId") UUID appointmentId
+    );
+
+    /**
+     * Süresi dolmamış bir anahtarla oluşturulan randevunun ID'sini ve ilk isteğin özetini getirir
+     * 
+     * @param userId Kullanıcı ID'si
+     * @param key Idempotency anahtarı
+     * @param cutoff Bu zamandan önce oluşturulan kayıtlar dikkate alınmaz
+     * @return Randevu ID'si ve istek özeti
+     */
+    @Query("SELECT new com.clinic.appointmentsystem.persistence.projections.IdempotencyResult(r.appointmentId, r.requestHash) " +
+            "FROM IdempotencyRecord r " +
+            "WHERE r.userId = :userId AND r.idempotencyKey = :key " +
+            "AND r.createdAt >= :cutoff AND r.appointmentId IS NOT NULL")
+    Optional<IdempotencyResult> findResult(
+            @Param("userId") UUID userId,
+            @Param("key") String key,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+
+    /**
+     * Süresi dolmuş kayıtları siler
+     * 
+     * @param cutoff Bu zamandan önce oluşturulan kayıtlar silinir
+     * @return Silinen kayıt sayısı
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :cutoff")
+    int deleteExpired(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,160 @@
+package com.clinic.appointmentsystem.persistence.repositories;
+
+import com.clinic.appointmentsystem.domain.entities.SlotHold;
+import com.clinic.appointmentsystem.persistence.projections.BookedSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SlotHoldRepository - Geçici zaman dilimi tutma veri erişim katmanı
+ * 
+ * Bu repository tutmaların oluşturulması, aktif tutmaların sorgulanması
+ * ve süresi dolan veya tüketilen tutmaların silinmesi işlemlerini sağlar.
+ */
+public interface SlotHoldRepository extends JpaRepository<SlotHold, UUID> {
+
+    /**
+     * Belirli bir hastanın tüm tutmalarını getirir
+     * 
+     * @param patientId Hasta ID'si
+     * @return Hastanın tutmaları
+     */
+    List<SlotHold> findByPatientId(UUID patientId);
+
+    /**
+     * Belirli bir doktorun belirli zaman aralığında başlayan aktif tutmalarını getirir
+     * Müsaitlik hesaplamasında dolu randevular gibi kullanılır
+     * 
+     * @param doctorId Doktor ID'si
+     * @param from Başlangıç zamanı (dahil)
+     * @param to Bitiş zamanı (hariç)
+     * @param now Şimdiki zaman, bu zamandan önce süresi dolanlar dahil edilmez
+     * @return Tutulan zaman aralıklarının listesi
+     */
+    @Query("SELECT new com.clinic.appointmentsystem.persistence.projections.BookedSlot(h.doctorId, h.startTime, h.endTime) " +
+            "FROM SlotHold h " +
+            "WHERE h.doctorId = :doctorId " +
+            "AND h.startTime >= :from AND h.startTime < :to " +
+            "AND h.expiresAt > :now")
+    List<BookedSlot> findActiveByDoctorId(
+            @Param("doctorId") UUID doctorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Belirli bir doktorun belirli zaman aralığında başlayan aktif tutmalarını hasta bilgisiyle getirir
+     * Toplu randevu oluşturmada tutmanın kime ait olduğunu bilmek için kullanılır
+     * 
+     * @param doctorId Doktor ID'si
+     * @param from Başlangıç zamanı (dahil)
+     * @param to Bitiş zamanı (hariç)
+     * @param now Şimdiki zaman, bu zamandan önce süresi dolanlar dahil edilmez
+     * @return Aktif tutmaların listesi
+     */
+    @Query("SELECT h FROM SlotHold h " +
+            "WHERE h.doctorId = :doctorId " +
+            "AND h.startTime >= :from AND h.startTime < :to " +
+            "AND h.expiresAt > :now")
+    List<SlotHold> findActiveHoldsByDoctorId(
+            @Param("doctorId") UUID doctorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Tüm doktorların belirli zaman aralığında başlayan aktif tutmalarını getirir
+     * 
+     * @param from Başlangıç zamanı (dahil)
+     * @param to Bitiş zamanı (hariç)
+     * @param now Şimdiki zaman, bu zamandan önce süresi dolanlar dahil edilmez
+     * @return Tutulan zaman aralıklarının listesi
+     */
+    @Query("SELECT new com.clinic.appointmentsystem.persistence.projections.BookedSlot(h.doctorId, h.startTime, h.endTime) " +
+            "FROM SlotHold h " +
+            "WHERE h.startTime >= :from AND h.startTime < :to " +
+            "AND h.expiresAt > :now")
+    List<BookedSlot> findAllActive(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Hastanın zaman aralığıyla çakışan tutmalarını siler ve çakışan, başka hastalara ait aktif tutmaları sayar
+     * Randevu yazma yolunda iki ayrı sorgu yerine tek ifade ile çalışır
+     * 
+     * @param doctorId Doktor ID'si
+     * @param startTime Başlangıç zamanı
+     * @param endTime Bitiş zamanı
+     * @param patientId Tutması tüketilecek hasta ID'si
+     * @param now Şimdiki zaman
+     * @return Başka hastalara ait çakışan aktif tutma sayısı
+     */
+    @Query(value = "WITH own AS (" +
+            "DELETE FROM slot_holds " +
+            "WHERE doctor_id = :doctorId AND patient_id = :patientId " +
+            "AND start_time < :endTime AND end_time > :startTime RETURNING id) " +
+            "SELECT COUNT(*) FROM slot_holds " +
+            "WHERE doctor_id = :doctorId AND patient_id <> :patientId " +
+            "AND start_time < :endTime AND end_time > :startTime " +
+            "AND expires_at > :now", nativeQuery = true)
+    long consumeOverlapCountingOthers(
+            @Param("doctorId") UUID doctorId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("patientId") UUID patientId,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Zaman aralığıyla çakışan, süresi dolmuş tutmaları siler
+     * Yeni tutma eklenmeden önce çağrılır, böylece exclusion kısıtı sadece aktif tutmalar için geçerli olur
+     * 
+     * @param doctorId Doktor ID'si
+     * @param startTime Başlangıç zamanı
+     * @param endTime Bitiş zamanı
+     * @param now Şimdiki zaman
+     * @return Silinen tutma sayısı
+     */
+    @Modifying
+    @Query("DELETE FROM SlotHold h " +
+            "WHERE h.doctorId = :doctorId " +
+            "AND h.startTime < :endTime AND h.endTime > :startTime " +
+            "AND h.expiresAt <= :now")
+    int deleteExpiredOverlap(
+            @Param("doctorId") UUID doctorId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Verilen tutmaları siler ve gerçekten silinenlerin ID'lerini döndürür
+     * Daha önce tüketilmiş veya silinmiş tutmalar sonuçta yer almaz
+     * 
+     * @param ids Tutma ID'leri
+     * @return Silinen tutmaların ID'leri
+     */
+    @Query(value = "DELETE FROM slot_holds WHERE id IN (:ids) RETURNING id", nativeQuery = true)
+    List<UUID> deleteByIdInReturningId(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Süresi dolmuş tüm tutmaları siler
+     * 
+     * @param now Şimdiki zaman
+     * @return Silinen tutma sayısı
+     */
+    @Modifying
+    @Query("DELETE FROM SlotHold h WHERE h.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
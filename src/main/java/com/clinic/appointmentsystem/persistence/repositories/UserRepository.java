@@ -2,7 +2,12 @@ package com.clinic.appointmentsystem.persistence.repositories;
 
 import com.clinic.appointmentsystem.domain.entities.User;
 import com.clinic.appointmentsystem.domain.enums.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,9 +31,21 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     
     /**
      * Belirli bir role sahip tüm kullanıcıları listeler
+     * Sonuç sorgu önbelleğinde tutulur, users tablosu değiştiğinde geçersiz olur
      * 
      * @param role Kullanıcı rolü (PATIENT, DOCTOR)
      * @return Belirtilen role sahip kullanıcıların listesi
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<User> findByRole(Role role);
+
+    /**
+     * Kullanıcının güncel token sürümünü getirir
+     * İkinci seviye önbellek kullanılmaz; değer her zaman veritabanından okunur
+     * 
+     * @param id Kullanıcı ID'si
+     * @return Token sürümü, kullanıcı yoksa Optional.empty()
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersion(@Param("id") UUID id);
 }
@@ -0,0 +1,36 @@
+package com.clinic.appointmentsystem.persistence.repositories;
+
+import com.clinic.appointmentsystem.domain.entities.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * WaitlistEntryRepository - Bekleme listesi veri erişim katmanı
+ * 
+ * Bu repository bekleme listesine katılma, ayrılma ve doktor-gün bazında
+ * sıradaki hastaların geliş sırasıyla listelenmesi işlemlerini sağlar.
+ */
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, UUID> {
+
+    /**
+     * Hastanın doktor-gün için bekleme listesinde olup olmadığını kontrol eder
+     * 
+     * @param doctorId Doktor ID'si
+     * @param patientId Hasta ID'si
+     * @param date Gün
+     * @return Listede ise true
+     */
+    boolean existsByDoctorIdAndPatientIdAndDate(UUID doctorId, UUID patientId, LocalDate date);
+
+    /**
+     * Doktor-gün için bekleme listesini geliş sırasıyla getirir
+     * 
+     * @param doctorId Doktor ID'si
+     * @param date Gün
+     * @return Bekleme listesi kayıtları (ilk gelen ilk sırada)
+     */
+    List<WaitlistEntry> findByDoctorIdAndDateOrderByCreatedAtAsc(UUID doctorId, LocalDate date);
+}
@@ -1,17 +1,35 @@
 package com.clinic.appointmentsystem.webapi.controllers;
 
+import com.clinic.appointmentsystem.application.availability.DoctorDay;
 import com.clinic.appointmentsystem.application.dto.appointment.AppointmentDoctorView;
+import com.clinic.appointmentsystem.application.dto.appointment.AppointmentPage;
 import com.clinic.appointmentsystem.application.dto.appointment.AppointmentPatientView;
+import com.clinic.appointmentsystem.application.dto.appointment.BatchItemResult;
 import com.clinic.appointmentsystem.application.dto.appointment.CreateAppointmentRequest;
+import com.clinic.appointmentsystem.application.dto.appointment.DailyAvailabilityView;
+import com.clinic.appointmentsystem.application.dto.appointment.EarliestSlotView;
+import com.clinic.appointmentsystem.application.dto.appointment.ShiftedAppointmentView;
+import com.clinic.appointmentsystem.application.dto.appointment.SlotHoldView;
+import com.clinic.appointmentsystem.application.dto.appointment.StatusUpdateResult;
 import com.clinic.appointmentsystem.application.services.AppointmentService;
+import com.clinic.appointmentsystem.application.services.AvailabilitySearchService;
+import com.clinic.appointmentsystem.application.services.IdempotencyService;
+import com.clinic.appointmentsystem.application.services.SlotHoldService;
+import com.clinic.appointmentsystem.application.services.WaitlistService;
 import com.clinic.appointmentsystem.domain.enums.AppointmentStatus;
+import com.clinic.appointmentsystem.domain.enums.ShiftType;
 import com.clinic.appointmentsystem.infrastructure.security.CustomUserDetails;
+import com.clinic.appointmentsystem.webapi.sse.SlotSubscriptionRegistry;
+import com.clinic.appointmentsystem.webapi.sse.SlotSubscriptionRegistry.SlotSnapshot;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.URI;
 import java.time.LocalDate;
@@ -31,57 +49,172 @@ import java.util.UUID;
 public class AppointmentController {
 
     private final AppointmentService service;
+    private final AvailabilitySearchService searchService;
+    private final IdempotencyService idempotency;
+    private final SlotHoldService holdService;
+    private final WaitlistService waitlistService;
+    private final SlotSubscriptionRegistry slotSubscriptions;
 
     /**
      * Yeni randevu oluşturur
      * 
+     * Idempotency-Key başlığı gönderilirse aynı anahtarla tekrarlanan istekler ilk randevunun ID'sini döndürür;
+     * anahtar farklı bir istekle tekrar kullanılırsa 409 IDEMPOTENCY_KEY_REUSED döner
+     * 
      * @param r Randevu oluşturma isteği (doktor ID, hasta ID, randevu zamanı)
+     * @param idempotencyKey İstemcinin tekrar denemeler için gönderdiği benzersiz anahtar (opsiyonel)
+     * @param auth Kimlik doğrulama bilgileri
      * @return Oluşturulan randevunun ID'si
      * @throws IllegalArgumentException Geçersiz randevu zamanı veya çakışma durumunda
      */
     @PostMapping
     @PreAuthorize("hasRole('PATIENT')")
-    public ResponseEntity<IdDto> create(@Valid @RequestBody CreateAppointmentRequest r) {
-        UUID id = service.create(r);
+    public ResponseEntity<IdDto> create(@Valid @RequestBody CreateAppointmentRequest r,
+                                        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                        Authentication auth) {
+        UUID id = idempotencyKey == null
+                ? service.create(r)
+                : idempotency.execute(((CustomUserDetails) auth.getPrincipal()).getId(), idempotencyKey, r, () -> service.create(r));
         return ResponseEntity.created(URI.create("/api/appointments/" + id)).body(new IdDto(id));
     }
 
     /**
-     * Giriş yapmış hastanın randevularını listeler
+     * Birden fazla randevuyu tek istekte oluşturur
+     * Geçersiz veya çakışan kalemler hata koduyla raporlanır, diğer kalemler oluşturulur
+     * 
+     * @param requests Randevu oluşturma istekleri (en fazla 100)
+     * @return İstek sırasıyla her kalemin sonucu (ID veya hata kodu)
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('PATIENT', 'DOCTOR')")
+    public List<BatchItemResult> createBatch(@RequestBody List<@Valid CreateAppointmentRequest> requests) {
+        return service.createBatch(requests);
+    }
+
+    /**
+     * Zaman dilimini randevu onaylanana kadar geçici olarak tutar
+     * Tutulan zaman dilimi diğer hastalar için müsait görünmez, randevu oluşturulurken tüketilir
+     * 
+     * @param r Tutma isteği (doktor ID, randevu zamanı)
+     * @param auth Kimlik doğrulama bilgileri
+     * @return Oluşturulan tutma ve bitiş zamanı
+     */
+    @PostMapping("/holds")
+    @PreAuthorize("hasRole('PATIENT')")
+    public ResponseEntity<SlotHoldView> holdSlot(@RequestBody HoldDto r, Authentication auth) {
+        UUID pid = ((CustomUserDetails) auth.getPrincipal()).getId();
+        SlotHoldView hold = holdService.hold(pid, r.doctorId(), r.appointmentTime());
+        return ResponseEntity.created(URI.create("/api/appointments/holds/" + hold.id())).body(hold);
+    }
+
+    /**
+     * Hastanın zaman dilimi tutmasını bırakır
+     * 
+     * @param id Tutma ID'si
+     * @param auth Kimlik doğrulama bilgileri
+     */
+    @DeleteMapping("/holds/{id}")
+    @PreAuthorize("hasRole('PATIENT')")
+    public void releaseHold(@PathVariable UUID id, Authentication auth) {
+        UUID pid = ((CustomUserDetails) auth.getPrincipal()).getId();
+        holdService.release(pid, id);
+    }
+
+    /**
+     * Doktorun belirli bir günü için bekleme listesine katılır
+     * O gün bir zaman dilimi boşaldığında sıradaki hastaya otomatik olarak randevu oluşturulur
      * 
+     * @param r Bekleme listesi isteği (doktor ID, gün)
      * @param auth Kimlik doğrulama bilgileri
-     * @return Hasta randevularının listesi
+     * @return Bekleme listesi kaydının ID'si
+     */
+    @PostMapping("/waitlist")
+    @PreAuthorize("hasRole('PATIENT')")
+    public ResponseEntity<IdDto> joinWaitlist(@RequestBody WaitlistDto r, Authentication auth) {
+        UUID pid = ((CustomUserDetails) auth.getPrincipal()).getId();
+        UUID id = waitlistService.join(pid, r.doctorId(), r.date());
+        return ResponseEntity.created(URI.create("/api/appointments/waitlist/" + id)).body(new IdDto(id));
+    }
+
+    /**
+     * Bekleme listesinden ayrılır
+     * 
+     * @param id Bekleme listesi kaydının ID'si
+     * @param auth Kimlik doğrulama bilgileri
+     */
+    @DeleteMapping("/waitlist/{id}")
+    @PreAuthorize("hasRole('PATIENT')")
+    public void leaveWaitlist(@PathVariable UUID id, Authentication auth) {
+        UUID pid = ((CustomUserDetails) auth.getPrincipal()).getId();
+        waitlistService.leave(pid, id);
+    }
+
+    /**
+     * Giriş yapmış hastanın randevularını sayfalı listeler
+     * 
+     * @param auth Kimlik doğrulama bilgileri
+     * @param from Başlangıç tarihi (YYYY-MM-DD formatında, dahil) - opsiyonel
+     * @param to Bitiş tarihi (YYYY-MM-DD formatında, dahil) - opsiyonel
+     * @param status Durum filtresi - opsiyonel
+     * @param cursor Önceki sayfanın nextCursor değeri - opsiyonel
+     * @param limit Sayfa boyutu (varsayılan 50, en fazla 200)
+     * @return Hasta randevularının sayfası
      */
     @GetMapping("/me")
     @PreAuthorize("hasRole('PATIENT')")
-    public List<AppointmentPatientView> myAppointments(Authentication auth) {
+    public AppointmentPage<AppointmentPatientView> myAppointments(Authentication auth,
+                                                                  @RequestParam(required = false) String from,
+                                                                  @RequestParam(required = false) String to,
+                                                                  @RequestParam(required = false) AppointmentStatus status,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "50") int limit) {
         UUID pid = ((CustomUserDetails) auth.getPrincipal()).getId();
-        return service.findByPatient(pid);
+        return service.findByPatient(pid, parseDate(from), parseDate(to), status, cursor, limit);
     }
 
     /**
-     * Giriş yapmış doktorun randevularını listeler
+     * Giriş yapmış doktorun randevularını sayfalı listeler
      * 
      * @param auth Kimlik doğrulama bilgileri
-     * @return Doktor randevularının listesi
+     * @param from Başlangıç tarihi (YYYY-MM-DD formatında, dahil) - opsiyonel
+     * @param to Bitiş tarihi (YYYY-MM-DD formatında, dahil) - opsiyonel
+     * @param status Durum filtresi - opsiyonel
+     * @param cursor Önceki sayfanın nextCursor değeri - opsiyonel
+     * @param limit Sayfa boyutu (varsayılan 50, en fazla 200)
+     * @return Doktor randevularının sayfası
      */
     @GetMapping("/doctor/me")
     @PreAuthorize("hasRole('DOCTOR')")
-    public List<AppointmentDoctorView> myDoctorAppointments(Authentication auth) {
+    public AppointmentPage<AppointmentDoctorView> myDoctorAppointments(Authentication auth,
+                                                                       @RequestParam(required = false) String from,
+                                                                       @RequestParam(required = false) String to,
+                                                                       @RequestParam(required = false) AppointmentStatus status,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "50") int limit) {
         UUID did = ((CustomUserDetails) auth.getPrincipal()).getId();
-        return service.findByDoctor(did);
+        return service.findByDoctor(did, parseDate(from), parseDate(to), status, cursor, limit);
     }
 
     /**
-     * Belirli bir doktorun randevularını listeler
+     * Belirli bir doktorun randevularını sayfalı listeler
      * 
      * @param doctorId Doktor ID'si
-     * @return Doktor randevularının listesi
+     * @param from Başlangıç tarihi (YYYY-MM-DD formatında, dahil) - opsiyonel
+     * @param to Bitiş tarihi (YYYY-MM-DD formatında, dahil) - opsiyonel
+     * @param status Durum filtresi - opsiyonel
+     * @param cursor Önceki sayfanın nextCursor değeri - opsiyonel
+     * @param limit Sayfa boyutu (varsayılan 50, en fazla 200)
+     * @return Doktor randevularının sayfası
      */
     @GetMapping("/doctor/{doctorId}")
     @PreAuthorize("hasRole('DOCTOR')")
-    public List<AppointmentDoctorView> doctorAppointments(@PathVariable UUID doctorId) {
-        return service.findByDoctor(doctorId);
+    public AppointmentPage<AppointmentDoctorView> doctorAppointments(@PathVariable UUID doctorId,
+                                                                     @RequestParam(required = false) String from,
+                                                                     @RequestParam(required = false) String to,
+                                                                     @RequestParam(required = false) AppointmentStatus status,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "50") int limit) {
+        return service.findByDoctor(doctorId, parseDate(from), parseDate(to), status, cursor, limit);
     }
 
     /**
@@ -96,6 +229,30 @@ public class AppointmentController {
         service.updateStatus(id, AppointmentStatus.valueOf(dto.status()));
     }
 
+    /**
+     * Giriş yapmış doktorun birden fazla randevusunun durumunu tek istekte günceller
+     * ID listesi verilirse bu randevular, verilmezse belirtilen gündeki belirli durumdaki
+     * tüm randevular (varsayılan PENDING) güncellenir
+     * 
+     * @param dto Randevu ID'leri veya gün filtresi ile yeni durum
+     * @param auth Kimlik doğrulama bilgileri
+     * @return Her randevu için sonuç (UPDATED / NOT_FOUND)
+     */
+    @PatchMapping("/status")
+    @PreAuthorize("hasRole('DOCTOR')")
+    public List<StatusUpdateResult> updateStatusBulk(@RequestBody BulkStatusDto dto, Authentication auth) {
+        UUID did = ((CustomUserDetails) auth.getPrincipal()).getId();
+        AppointmentStatus status = AppointmentStatus.valueOf(dto.status());
+        if (dto.ids() != null)
+            return service.updateStatusBulk(did, dto.ids(), status);
+        if (dto.date() == null)
+            throw new IllegalArgumentException("IDS_OR_DATE_REQUIRED");
+        AppointmentStatus currentStatus = dto.currentStatus() == null
+                ? AppointmentStatus.PENDING
+                : AppointmentStatus.valueOf(dto.currentStatus());
+        return service.updateStatusForDay(did, dto.date(), currentStatus, status);
+    }
+
     /**
      * Randevuya not ekler
      * 
@@ -120,6 +277,27 @@ public class AppointmentController {
         service.reschedule(id, r.appointmentTime());
     }
 
+    /**
+     * Doktorun bir gündeki tüm randevularını toplu olarak taşır (gecikme, hastalık vb.)
+     * Randevular dakika cinsinden kaydırılabilir, başka bir güne veya başka bir doktora taşınabilir
+     * 
+     * @param doctorId Randevuları taşınacak doktorun ID'si (giriş yapmış doktor olmalı)
+     * @param r Taşıma isteği (gün, kaydırma, hedef gün, hedef doktor)
+     * @param auth Kimlik doğrulama bilgileri
+     * @return Taşınan randevular ve yeni zamanları
+     */
+    @PostMapping("/doctor/{doctorId}/shift")
+    @PreAuthorize("hasRole('DOCTOR')")
+    public List<ShiftedAppointmentView> shiftDay(@PathVariable UUID doctorId, @RequestBody ShiftDayDto r,
+                                                 Authentication auth) {
+        UUID did = ((CustomUserDetails) auth.getPrincipal()).getId();
+        if (!did.equals(doctorId))
+            throw new AccessDeniedException("NOT_AUTHORIZED");
+        if (r.date() == null)
+            throw new IllegalArgumentException("DATE_REQUIRED");
+        return service.shiftDay(doctorId, r.date(), r.offsetMinutes(), r.targetDate(), r.targetDoctorId());
+    }
+
     /**
      * Randevuyu siler
      * 
@@ -157,6 +335,65 @@ public class AppointmentController {
         return service.getAvailableTimeSlots(doctorId, localDate);
     }
 
+    /**
+     * Belirli bir doktorun belirli bir gündeki zaman dilimi değişikliklerine abone olur (Server-Sent Events)
+     * İlk olarak "snapshot" olayı ile mevcut durum, ardından her değişiklikte "slot" olayı gönderilir
+     * 
+     * @param doctorId Doktor ID'si
+     * @param date Tarih (YYYY-MM-DD formatında)
+     * @return SSE bağlantısı
+     */
+    @GetMapping(value = "/slot-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSlotEvents(@RequestParam UUID doctorId, @RequestParam String date) {
+        LocalDate localDate = LocalDate.parse(date);
+        return slotSubscriptions.subscribe(new DoctorDay(doctorId, localDate), () -> {
+            List<String> available = service.getAvailableTimeSlots(doctorId, localDate);
+            try {
+                return new SlotSnapshot(available, service.getBookedTimeSlots(doctorId, localDate.atStartOfDay()));
+            } catch (IllegalArgumentException e) {
+                // Doktor o gün çalışmıyor: dolu zaman dilimi yok
+                return new SlotSnapshot(available, List.of());
+            }
+        });
+    }
+
+    /**
+     * Belirli bir doktorun tarih aralığındaki her gün için müsait zaman dilimlerini getirir
+     * 
+     * @param doctorId Doktor ID'si
+     * @param from Başlangıç tarihi (YYYY-MM-DD formatında, dahil)
+     * @param to Bitiş tarihi (YYYY-MM-DD formatında, dahil, en fazla 60 gün)
+     * @return Günlük müsait zaman dilimlerinin listesi
+     */
+    @GetMapping("/available-slots/range")
+    public List<DailyAvailabilityView> getAvailableTimeSlotsInRange(@RequestParam UUID doctorId,
+                                                                    @RequestParam String from,
+                                                                    @RequestParam String to) {
+        return service.getAvailableTimeSlotsInRange(doctorId, LocalDate.parse(from), LocalDate.parse(to));
+    }
+
+    /**
+     * Tüm doktorlar arasında en erken boş zaman dilimlerini arar
+     * 
+     * @param from Başlangıç tarihi (YYYY-MM-DD formatında, dahil)
+     * @param to Bitiş tarihi (YYYY-MM-DD formatında, dahil, en fazla 60 gün)
+     * @param shift Zaman dilimi filtresi (MORNING, AFTERNOON, FULL_DAY) - opsiyonel
+     * @param limit Döndürülecek en fazla sonuç sayısı (varsayılan 10, en fazla 100)
+     * @return Zamana göre sıralı en erken boş zaman dilimleri
+     */
+    @GetMapping("/earliest-slots")
+    public List<EarliestSlotView> findEarliestSlots(@RequestParam String from,
+                                                    @RequestParam String to,
+                                                    @RequestParam(required = false) ShiftType shift,
+                                                    @RequestParam(defaultValue = "10") int limit) {
+        return searchService.findEarliestSlots(LocalDate.parse(from), LocalDate.parse(to), shift, limit);
+    }
+
+    // Opsiyonel tarih parametresini çözer (YYYY-MM-DD)
+    private static LocalDate parseDate(String date) {
+        return date == null || date.isBlank() ? null : LocalDate.parse(date);
+    }
+
     // Data Transfer Objects (DTOs)
     private record IdDto(UUID id) {
     }
@@ -164,9 +401,21 @@ public class AppointmentController {
     record StatusDto(String status) {
     }
 
+    record BulkStatusDto(List<UUID> ids, LocalDate date, String currentStatus, String status) {
+    }
+
     record NoteDto(String note) {
     }
 
     record RescheduleDto(LocalDateTime appointmentTime) {
     }
+
+    record ShiftDayDto(LocalDate date, Integer offsetMinutes, LocalDate targetDate, UUID targetDoctorId) {
+    }
+
+    record HoldDto(UUID doctorId, LocalDateTime appointmentTime) {
+    }
+
+    record WaitlistDto(UUID doctorId, LocalDate date) {
+    }
 }
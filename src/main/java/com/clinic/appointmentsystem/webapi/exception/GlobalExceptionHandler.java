@@ -3,7 +3,9 @@ package com.clinic.appointmentsystem.webapi.exception;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -78,6 +80,13 @@ public class GlobalExceptionHandler {
                 .body(new ApiError(400, "TYPE_MISMATCH", message, LocalDateTime.now()));
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    static ResponseEntity<ApiError> serviceUnavailable(RejectedExecutionException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiError(503, "SERVICE_UNAVAILABLE", ex.getMessage(), LocalDateTime.now()));
+    }
+
     @ExceptionHandler(Exception.class)
     static ResponseEntity<ApiError> generic(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
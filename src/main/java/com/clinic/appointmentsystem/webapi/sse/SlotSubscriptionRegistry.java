@@ -0,0 +1,149 @@
+package com.clinic.appointmentsystem.webapi.sse;
+
+import com.clinic.appointmentsystem.application.availability.DoctorDay;
+import com.clinic.appointmentsystem.application.availability.SlotEngine;
+import com.clinic.appointmentsystem.application.events.SlotChangeEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * SlotSubscriptionRegistry - Doktor-gün bazlı zaman dilimi abonelik kaydı
+ *
+ * İstemciler bir doktorun belirli bir gününe Server-Sent Events ile abone olur.
+ * Randevu değişiklikleri işlem tamamlandıktan sonra sadece ilgili doktor-gün
+ * abonelerine "slot" olayı olarak iletilir; böylece istemcilerin periyodik sorgu
+ * (polling) yapmasına gerek kalmaz.
+ *
+ * Gönderim, işlemi tamamlayan istek iş parçacığında değil, arka plandaki dağıtıcılarda yapılır;
+ * yavaş bir istemci randevu işlemlerini bekletmez. Her doktor-gün sabit bir tek iş parçacıklı
+ * dağıtıcıya düşer, böylece aynı doktor-günün değişiklikleri sırasıyla iletilir. Dağıtıcı kuyruğu
+ * doluysa o doktor-günün bağlantıları kapatılır; istemci yeniden bağlanıp güncel durumu alır.
+ */
+@Slf4j
+@Component
+public class SlotSubscriptionRegistry {
+
+    private final Map<DoctorDay, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor[] dispatchers;
+    private final long timeoutMs;
+
+    public SlotSubscriptionRegistry(@Value("${appointment.slot-events.timeout-seconds:1800}") long timeoutSeconds,
+                                    @Value("${appointment.slot-events.dispatch-threads:2}") int dispatchThreads,
+                                    @Value("${appointment.slot-events.queue-capacity:10000}") int queueCapacity) {
+        this.timeoutMs = timeoutSeconds * 1000;
+        this.dispatchers = new ThreadPoolExecutor[Math.max(1, dispatchThreads)];
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("slot-events-");
+        threadFactory.setDaemon(true);
+        for (int i = 0; i < dispatchers.length; i++) {
+            dispatchers[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    /**
+     * Doktor-gün için yeni bir abonelik oluşturur ve ilk durumu (snapshot) gönderir
+     * Abonelik snapshot'tan önce kaydedilir, böylece arada oluşan değişiklikler kaçırılmaz
+     *
+     * @param key Doktor-gün anahtarı
+     * @param snapshot İlk durumu hesaplayan fonksiyon
+     * @return SSE bağlantısı
+     */
+    public SseEmitter subscribe(DoctorDay key, Supplier<SlotSnapshot> snapshot) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        // Ekleme compute içinde yapılır; eşzamanlı bir abonelik iptali kümeyi araya girip silemez
+        subscribers.compute(key, (k, set) -> {
+            Set<SseEmitter> emitters = set != null ? set : ConcurrentHashMap.newKeySet();
+            emitters.add(emitter);
+            return emitters;
+        });
+
+        emitter.onCompletion(() -> unsubscribe(key, emitter));
+        emitter.onTimeout(() -> unsubscribe(key, emitter));
+        emitter.onError(e -> unsubscribe(key, emitter));
+
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(snapshot.get()));
+        } catch (IOException | RuntimeException e) {
+            unsubscribe(key, emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * Randevu değişikliğini ilgili doktor-gün abonelerine iletilmek üzere dağıtıcıya verir
+     *
+     * @param event Zaman dilimi değişiklik olayı
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotChange(SlotChangeEvent event) {
+        DoctorDay key = new DoctorDay(event.doctorId(), event.appointmentTime().toLocalDate());
+        Set<SseEmitter> emitters = subscribers.get(key);
+        if (emitters == null || emitters.isEmpty()) return;
+
+        SlotDelta delta = new SlotDelta(event.type(),
+                SlotEngine.label(SlotEngine.minuteOfDay(event.appointmentTime().toLocalTime())));
+        try {
+            dispatchers[Math.floorMod(key.hashCode(), dispatchers.length)].execute(() -> send(key, delta));
+        } catch (RejectedExecutionException e) {
+            // Değişiklik iletilemediği için istemcilerin durumu eskir; bağlantıyı kapat, yeniden bağlansınlar
+            log.warn("Slot event queue is full, closing {} subscribers of {}", emitters.size(), key);
+            emitters.forEach(SseEmitter::complete);
+        }
+    }
+
+    private void send(DoctorDay key, SlotDelta delta) {
+        Set<SseEmitter> emitters = subscribers.get(key);
+        if (emitters == null) return;
+
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("slot").data(delta));
+            } catch (IOException | IllegalStateException e) {
+                // Bağlantısı kopan istemciyi kayıttan çıkar
+                log.debug("Dropping slot subscriber for {}: {}", key, e.getMessage());
+                unsubscribe(key, emitter);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (ThreadPoolExecutor dispatcher : dispatchers) dispatcher.shutdown();
+    }
+
+    private void unsubscribe(DoctorDay key, SseEmitter emitter) {
+        subscribers.computeIfPresent(key, (k, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * İlk durum: abonelik anındaki müsait ve dolu zaman dilimleri
+     */
+    public record SlotSnapshot(List<String> available, List<String> booked) {
+    }
+
+    /**
+     * Değişiklik: zaman diliminin dolması (BOOKED) veya boşalması (RELEASED)
+     */
+    public record SlotDelta(SlotChangeEvent.Type type, String time) {
+    }
+}
@@ -0,0 +1,21 @@
+-- Ödeme/onay adımı sırasında zaman dilimini kısa süreliğine ayıran geçici tutmalar
+CREATE TABLE slot_holds
+(
+    id         UUID PRIMARY KEY,
+    doctor_id  UUID NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    patient_id UUID NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    start_time TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    end_time   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    expires_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT check_slot_hold_end_time CHECK (end_time > start_time)
+);
+
+-- Aynı doktorun zaman aralığı aynı anda tek bir tutma ile ayrılabilir (tüm sunucular için)
+-- Süresi dolan kayıtlar yeni tutma eklenmeden önce aynı işlemde silinir
+ALTER TABLE slot_holds
+    ADD CONSTRAINT ex_slot_hold_overlap
+        EXCLUDE USING gist (doctor_id WITH =, tsrange(start_time, end_time) WITH &&);
+
+CREATE INDEX idx_slot_holds_patient_id ON slot_holds (patient_id);
+CREATE INDEX idx_slot_holds_expires_at ON slot_holds (expires_at);
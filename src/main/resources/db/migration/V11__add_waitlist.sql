@@ -0,0 +1,14 @@
+-- Doktor-gün bazlı bekleme listesi
+-- Bir zaman dilimi boşaldığında sıradaki hastaya otomatik olarak randevu verilir
+CREATE TABLE waitlist_entries
+(
+    id         UUID PRIMARY KEY,
+    doctor_id  UUID NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    patient_id UUID NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    date       DATE NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT uk_waitlist_doctor_patient_date UNIQUE (doctor_id, patient_id, date)
+);
+
+-- Sıradaki hastayı geliş sırasına göre bulmak için
+CREATE INDEX idx_waitlist_doctor_date_created ON waitlist_entries (doctor_id, date, created_at);
@@ -0,0 +1,4 @@
+-- Hasta ve doktor randevu listeleri (randevu zamanı, ID) sırasında imleç ile sayfalanır
+-- Bileşik indeksler hem tarih filtresini hem de sıralamayı karşılar
+CREATE INDEX idx_appointments_doctor_time ON appointments (doctor_id, appointment_time);
+CREATE INDEX idx_appointments_patient_time ON appointments (patient_id, appointment_time);
@@ -0,0 +1,4 @@
+-- Anahtarla birlikte ilk isteğin gövdesinin SHA-256 özeti saklanır
+-- Aynı anahtar farklı bir istekle tekrar kullanılırsa ilk sonuç döndürülmez, istek reddedilir
+-- Bu sürümden önce yazılan kayıtlarda özet yoktur (NULL), bu kayıtlar TTL sonunda silinir
+ALTER TABLE idempotency_keys ADD COLUMN request_hash VARCHAR(64);
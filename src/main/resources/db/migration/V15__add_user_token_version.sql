@@ -0,0 +1,3 @@
+-- Kullanıcı başına token sürümü: JWT'ye yazılır, artırıldığında önceki sürümle üretilmiş token'lar
+-- tüm sunucularda geçersiz olur (email değişikliği vb.)
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
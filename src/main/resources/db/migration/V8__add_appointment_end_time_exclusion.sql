@@ -0,0 +1,45 @@
+-- Add end_time column so overlap checks can compare stored ranges
+ALTER TABLE appointments ADD COLUMN end_time TIMESTAMP WITHOUT TIME ZONE;
+
+-- Backfill from the doctor's schedule duration for that weekday (default 30 minutes)
+-- day_of_week holds the JPA DayOfWeek ordinal (Monday = 0), ISODOW is Monday = 1
+UPDATE appointments a
+SET end_time = a.appointment_time + INTERVAL '1 minute' * COALESCE(
+        (SELECT MAX(ds.appointment_duration_minutes)
+         FROM doctor_schedules ds
+         WHERE ds.doctor_id = a.doctor_id
+           AND ds.day_of_week = EXTRACT(ISODOW FROM a.appointment_time) - 1),
+        30);
+
+-- Existing bookings were only unique by start time, so a backfilled end can run into the
+-- doctor's next non-rejected booking. Cap it at that booking's start; start times are unique
+-- per doctor (uk_doctor_time), so end_time stays after appointment_time.
+WITH next_booking AS (
+    SELECT id,
+           LEAD(appointment_time) OVER (PARTITION BY doctor_id ORDER BY appointment_time) AS next_start
+    FROM appointments
+    WHERE status <> 'REJECTED'
+)
+UPDATE appointments a
+SET end_time = n.next_start
+FROM next_booking n
+WHERE a.id = n.id
+  AND n.next_start < a.end_time;
+
+ALTER TABLE appointments ALTER COLUMN end_time SET NOT NULL;
+ALTER TABLE appointments ADD CONSTRAINT check_appointment_end_time CHECK (end_time > appointment_time);
+
+-- Replace the exact start-time unique constraint with a range exclusion constraint:
+-- non-rejected appointments of the same doctor may not overlap. The check is immediate by
+-- default; bulk updates such as shifting a doctor's day may defer it until all rows are moved.
+-- btree_gist is a trusted extension (PostgreSQL 13+): the migrating user needs CREATE on the
+-- database, otherwise a superuser has to create the extension beforehand (see README)
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE appointments DROP CONSTRAINT uk_doctor_time;
+
+ALTER TABLE appointments
+    ADD CONSTRAINT ex_doctor_time_overlap
+    EXCLUDE USING gist (doctor_id WITH =, tsrange(appointment_time, end_time) WITH &&)
+    WHERE (status <> 'REJECTED')
+    DEFERRABLE INITIALLY IMMEDIATE;
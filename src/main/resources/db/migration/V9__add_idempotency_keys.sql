@@ -0,0 +1,14 @@
+-- Idempotency-Key başlığı ile gönderilen randevu oluşturma isteklerinin sonuçları
+-- Aynı kullanıcı aynı anahtarla tekrar gönderdiğinde ilk oluşturulan randevunun ID'si döndürülür
+CREATE TABLE idempotency_keys
+(
+    id              UUID PRIMARY KEY,
+    user_id         UUID         NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    idempotency_key VARCHAR(255) NOT NULL,
+    appointment_id  UUID,
+    created_at      TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT uk_idempotency_user_key UNIQUE (user_id, idempotency_key)
+);
+
+-- Süresi dolan kayıtları silen temizleyici için
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
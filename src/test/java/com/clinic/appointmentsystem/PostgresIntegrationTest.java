@@ -0,0 +1,144 @@
+package com.clinic.appointmentsystem;
+
+import com.clinic.appointmentsystem.application.dto.schedule.CreateScheduleRequest;
+import com.clinic.appointmentsystem.application.services.DoctorScheduleService;
+import com.clinic.appointmentsystem.domain.entities.User;
+import com.clinic.appointmentsystem.domain.enums.Role;
+import com.clinic.appointmentsystem.domain.enums.ShiftType;
+import com.clinic.appointmentsystem.persistence.repositories.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * PostgresIntegrationTest - PostgreSQL'e karşı çalışan entegrasyon testlerinin temel sınıfı
+ *
+ * Veritabanı TEST_DATABASE_URL (TEST_DATABASE_USERNAME, TEST_DATABASE_PASSWORD) ile verilirse o kullanılır,
+ * verilmezse Docker üzerinde Testcontainers ile PostgreSQL başlatılır. İkisi de yoksa testler atlanır.
+ * Şema Flyway ile oluşturulur. Testler işlem (transaction) içinde çalışmaz; her test kendi
+ * doktor ve hastasını oluşturduğu için testler birbirini etkilemez.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class PostgresIntegrationTest {
+
+    private static final String EXTERNAL_URL = System.getenv("TEST_DATABASE_URL");
+    private static final PostgreSQLContainer<?> POSTGRES = EXTERNAL_URL == null && dockerAvailable()
+            ? new PostgreSQLContainer<>("postgres:16-alpine")
+            : null;
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    // Çalışma günü olarak kullanılacak en yakın gelecek tarih (hafta sonu dahil tüm günler çalışma günüdür)
+    protected static final LocalDate DAY = LocalDate.now().plusDays(7);
+
+    @Autowired
+    protected UserRepository userRepo;
+
+    @Autowired
+    protected DoctorScheduleService scheduleService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    static {
+        if (POSTGRES != null) POSTGRES.start();
+    }
+
+    @BeforeAll
+    static void requireDatabase() {
+        assumeTrue(EXTERNAL_URL != null || POSTGRES != null, "PostgreSQL yok: TEST_DATABASE_URL veya Docker gerekli");
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        if (POSTGRES != null) {
+            registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+            registry.add("spring.datasource.username", POSTGRES::getUsername);
+            registry.add("spring.datasource.password", POSTGRES::getPassword);
+        } else if (EXTERNAL_URL != null) {
+            registry.add("spring.datasource.url", () -> EXTERNAL_URL);
+            registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("TEST_DATABASE_USERNAME", "clinic"));
+            registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("TEST_DATABASE_PASSWORD", "clinic123"));
+        }
+    }
+
+    private static boolean dockerAvailable() {
+        try {
+            return DockerClientFactory.instance().isDockerAvailable();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return Hibernate istatistikleri (hazırlanan SQL ifadesi sayısı, önbellek isabetleri)
+     */
+    protected Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * İşlemin hazırladığı SQL ifadesi sayısını ölçer (arka plan görevleri test profilinde kapalıdır)
+     *
+     * @param action Ölçülecek işlem
+     * @return Hazırlanan SQL ifadesi sayısı
+     */
+    protected long countStatements(Runnable action) {
+        long before = statistics().getPrepareStatementCount();
+        action.run();
+        return statistics().getPrepareStatementCount() - before;
+    }
+
+    /**
+     * Yeni bir kullanıcı oluşturur
+     *
+     * @param role Kullanıcı rolü
+     * @return Kullanıcı ID'si
+     */
+    protected UUID createUser(Role role) {
+        UUID id = UUID.randomUUID();
+        userRepo.save(User.builder()
+                .id(id)
+                .firstName("Test")
+                .lastName(role.name() + SEQUENCE.incrementAndGet())
+                .email(id + "@test.local")
+                .passwordHash("x")
+                .role(role)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        return id;
+    }
+
+    /**
+     * Haftanın her günü tam gün (09:00-18:00) çalışan yeni bir doktor oluşturur
+     *
+     * @param appointmentDurationMinutes Randevu süresi (dakika)
+     * @return Doktor ID'si
+     */
+    protected UUID createDoctor(int appointmentDurationMinutes) {
+        UUID doctorId = createUser(Role.DOCTOR);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            scheduleService.createSchedule(doctorId,
+                    new CreateScheduleRequest(day, true, appointmentDurationMinutes, ShiftType.FULL_DAY));
+        }
+        return doctorId;
+    }
+}
@@ -0,0 +1,140 @@
+package com.clinic.appointmentsystem.application.booking;
+
+import com.clinic.appointmentsystem.PostgresIntegrationTest;
+import com.clinic.appointmentsystem.application.availability.DoctorDay;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostgreSQL advisory kilidinin eşzamanlı işlemlerde davranışı
+ *
+ * Aynı doktor-gün kilidini isteyen işlemler kilidi tutan işlem bitene kadar beklemeli, birden fazla
+ * doktor-gün kilitleyen işlemler anahtarları çakışan doktorlarda bile birbirini kilitlenmeye
+ * (40P01 deadlock) sokmamalıdır. Kilitsiz modla çift randevu karşılaştırması
+ * {@link BookingLockContentionBenchmarkTest} içindedir.
+ */
+@TestPropertySource(properties = "appointment.booking.lock-mode=advisory")
+class AdvisoryBookingLockTest extends PostgresIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private BookingLock bookingLock;
+
+    @Autowired
+    private TransactionTemplate tx;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void usesAdvisoryLock() {
+        assertThat(bookingLock).isInstanceOf(AdvisoryBookingLock.class);
+    }
+
+    @Test
+    void lockOnSameDoctorDayWaitsForHolder() throws Exception {
+        UUID doctorId = UUID.randomUUID();
+        DoctorDay day = new DoctorDay(doctorId, DAY);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> inTransaction(() -> {
+            bookingLock.lock(day);
+            locked.countDown();
+            await(release);
+        }));
+        assertThat(locked.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+
+        // Aynı doktor-gün beklemede kalır, aynı doktorun başka günü beklemez
+        Future<?> sameDay = executor.submit(() -> inTransaction(() -> bookingLock.lock(day)));
+        awaitWaiters(1);
+        executor.submit(() -> inTransaction(() -> bookingLock.lock(new DoctorDay(doctorId, DAY.plusDays(1)))))
+                .get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        assertThat(sameDay).isNotDone();
+
+        release.countDown();
+        holder.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        sameDay.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+    }
+
+    @Test
+    void crossingMultiDayLocksOnCollidingDoctorKeysDoNotDeadlock() throws Exception {
+        // İki doktorun 32 bitlik kilit anahtarı aynıdır (msb ^ lsb), ID sırası ise farklıdır
+        UUID first = new UUID(0x1111L, 0x2222L);
+        UUID second = new UUID(0x2222L, 0x1111L);
+        LocalDate day1 = DAY;
+        LocalDate day2 = DAY.plusDays(1);
+        List<DoctorDay> forward = List.of(new DoctorDay(first, day1), new DoctorDay(second, day2));
+        List<DoctorDay> backward = List.of(new DoctorDay(second, day1), new DoctorDay(first, day2));
+
+        // Ortak anahtarlardan ilkini tutan işlem, diğer iki işlemin bekleme sırasını belirler
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> blocker = executor.submit(() -> inTransaction(() -> {
+            bookingLock.lock(new DoctorDay(first, day1));
+            locked.countDown();
+            await(release);
+        }));
+        assertThat(locked.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        Future<?> forwardLock = executor.submit(() -> inTransaction(() -> bookingLock.lockAll(forward)));
+        awaitWaiters(1);
+        Future<?> backwardLock = executor.submit(() -> inTransaction(() -> bookingLock.lockAll(backward)));
+        awaitWaiters(2);
+        release.countDown();
+
+        blocker.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        forwardLock.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        backwardLock.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+    }
+
+    private void inTransaction(Runnable action) {
+        tx.executeWithoutResult(status -> action.run());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Advisory kilit bekleyen işlem sayısı beklenen değere ulaşana kadar bekler
+    private void awaitWaiters(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            Integer waiting = jdbc.queryForObject(
+                    "SELECT count(*) FROM pg_locks WHERE locktype = 'advisory' AND NOT granted", Integer.class);
+            if (waiting != null && waiting == expected) {
+                Thread.sleep(50);
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("advisory lock waiters did not reach " + expected);
+    }
+}
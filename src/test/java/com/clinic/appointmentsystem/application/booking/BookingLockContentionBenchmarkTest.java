@@ -0,0 +1,133 @@
+package com.clinic.appointmentsystem.application.booking;
+
+import com.clinic.appointmentsystem.PostgresIntegrationTest;
+import com.clinic.appointmentsystem.application.availability.DoctorDay;
+import com.clinic.appointmentsystem.persistence.repositories.AppointmentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Kilit modlarının (none, striped, advisory) eşzamanlı randevu yazımında karşılaştırması
+ *
+ * Her iş parçacığı aynı doktorun aynı zaman dilimlerini sırayla almaya çalışır; her deneme kilidi alır,
+ * çakışan satırı sorgular ve yoksa ekler (check-then-insert). Exclusion kısıtı bu karşılaştırmayı
+ * gizleyeceği için denemeler kısıtsız bir tabloya yazılır; böylece kilitsiz modda oluşan çift
+ * randevular da sayılabilir. Raporlanan değerler saniye başına deneme ve çift randevu sayısıdır.
+ *
+ * Uzun sürdüğü için sadece -Dbenchmark=true ile çalışır.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookingLockContentionBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int DOCTORS = 4;
+    private static final int THREADS_PER_DOCTOR = 4;
+    private static final int SLOTS = 250;
+    private static final LocalDateTime FIRST_SLOT = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    @Autowired
+    private AppointmentRepository appointmentRepo;
+
+    @Autowired
+    private TransactionTemplate tx;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(DOCTORS * THREADS_PER_DOCTOR);
+
+    @BeforeEach
+    void setUp() {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS booking_lock_benchmark (" +
+                "doctor_id UUID NOT NULL, appointment_time TIMESTAMP NOT NULL, end_time TIMESTAMP NOT NULL)");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_booking_lock_benchmark ON booking_lock_benchmark (doctor_id, appointment_time)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        jdbc.execute("DROP TABLE IF EXISTS booking_lock_benchmark");
+    }
+
+    @Test
+    void compareLockModes() throws Exception {
+        run(new NoOpBookingLock()); // ısınma
+        Result none = run(new NoOpBookingLock());
+        Result striped = run(new StripedBookingLock(new SimpleMeterRegistry(), 64, 5000));
+        Result advisory = run(new AdvisoryBookingLock(appointmentRepo));
+        log.info("booking {} doctors x {} threads x {} slots  none:     {}", DOCTORS, THREADS_PER_DOCTOR, SLOTS, none);
+        log.info("booking {} doctors x {} threads x {} slots  striped:  {}", DOCTORS, THREADS_PER_DOCTOR, SLOTS, striped);
+        log.info("booking {} doctors x {} threads x {} slots  advisory: {}", DOCTORS, THREADS_PER_DOCTOR, SLOTS, advisory);
+
+        assertThat(striped.doubleBookings()).isZero();
+        assertThat(advisory.doubleBookings()).isZero();
+    }
+
+    private Result run(BookingLock lock) throws Exception {
+        jdbc.execute("TRUNCATE booking_lock_benchmark");
+        List<UUID> doctorIds = new ArrayList<>();
+        for (int d = 0; d < DOCTORS; d++) doctorIds.add(UUID.randomUUID());
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (UUID doctorId : doctorIds) {
+            for (int t = 0; t < THREADS_PER_DOCTOR; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int slot = 0; slot < SLOTS; slot++) book(lock, doctorId, FIRST_SLOT.plusMinutes(30L * slot));
+                    return null;
+                }));
+            }
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) worker.get(5, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - begin;
+
+        Integer doubles = jdbc.queryForObject("SELECT COALESCE(SUM(c - 1), 0) FROM (SELECT count(*) AS c " +
+                "FROM booking_lock_benchmark GROUP BY doctor_id, appointment_time HAVING count(*) > 1) d", Integer.class);
+        long attempts = (long) DOCTORS * THREADS_PER_DOCTOR * SLOTS;
+        return new Result(attempts * 1_000_000_000d / elapsedNanos, doubles == null ? 0 : doubles);
+    }
+
+    // AppointmentService.create ile aynı sıra: kilit, çakışma sorgusu, ekleme
+    private void book(BookingLock lock, UUID doctorId, LocalDateTime time) {
+        tx.executeWithoutResult(status -> {
+            lock.lock(new DoctorDay(doctorId, time.toLocalDate()));
+            Integer overlapping = jdbc.queryForObject("SELECT count(*) FROM booking_lock_benchmark " +
+                            "WHERE doctor_id = ? AND appointment_time < ? AND end_time > ?", Integer.class,
+                    doctorId, Timestamp.valueOf(time.plusMinutes(30)), Timestamp.valueOf(time));
+            if (overlapping != null && overlapping == 0)
+                jdbc.update("INSERT INTO booking_lock_benchmark (doctor_id, appointment_time, end_time) VALUES (?, ?, ?)",
+                        doctorId, Timestamp.valueOf(time), Timestamp.valueOf(time.plusMinutes(30)));
+        });
+    }
+
+    private record Result(double attemptsPerSecond, int doubleBookings) {
+        @Override
+        public String toString() {
+            return String.format("%8.0f attempts/s  %4d double bookings", attemptsPerSecond, doubleBookings);
+        }
+    }
+}
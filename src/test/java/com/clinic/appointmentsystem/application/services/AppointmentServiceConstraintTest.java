@@ -0,0 +1,116 @@
+package com.clinic.appointmentsystem.application.services;
+
+import com.clinic.appointmentsystem.PostgresIntegrationTest;
+import com.clinic.appointmentsystem.application.availability.WeeklyScheduleCache;
+import com.clinic.appointmentsystem.application.dto.appointment.CreateAppointmentRequest;
+import com.clinic.appointmentsystem.domain.enums.AppointmentStatus;
+import com.clinic.appointmentsystem.domain.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Veritabanı kısıt ihlallerinin (çakışma exclusion kısıtı, hasta ve doktor yabancı anahtarları) iş hatalarına çevrilmesi
+ *
+ * Her senaryo kısıtın kendisine ulaşır; bellek içi kontroller çakışmayı önceden yakalamaz.
+ */
+class AppointmentServiceConstraintTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private WeeklyScheduleCache weeklySchedules;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private UUID doctorId;
+    private UUID patientId;
+
+    @BeforeEach
+    void setUp() {
+        doctorId = createDoctor(30);
+        patientId = createUser(Role.PATIENT);
+    }
+
+    private UUID book(int hour, int minute) {
+        return appointmentService.create(new CreateAppointmentRequest(patientId, doctorId, DAY.atTime(hour, minute)));
+    }
+
+    @Test
+    void createIntoBookedSlotIsConflict() {
+        book(9, 0);
+
+        assertThatThrownBy(() -> book(9, 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("APPT_TIME_SLOT_BOOKED");
+    }
+
+    @Test
+    void createOverlappingBookedSlotIsConflict() {
+        book(9, 0);
+
+        assertThatThrownBy(() -> book(9, 15))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("APPT_TIME_SLOT_BOOKED");
+    }
+
+    @Test
+    void rescheduleIntoBookedSlotIsConflict() {
+        book(9, 0);
+        UUID other = book(10, 0);
+
+        assertThatThrownBy(() -> appointmentService.reschedule(other, DAY.atTime(9, 0)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("APPT_TIME_SLOT_BOOKED");
+    }
+
+    @Test
+    void unrejectIntoRebookedSlotIsConflict() {
+        UUID rejected = book(9, 0);
+        appointmentService.updateStatus(rejected, AppointmentStatus.REJECTED);
+        book(9, 0);
+
+        assertThatThrownBy(() -> appointmentService.updateStatus(rejected, AppointmentStatus.PENDING))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("APPT_TIME_SLOT_BOOKED");
+    }
+
+    @Test
+    void bulkUnrejectIntoRebookedSlotIsConflict() {
+        UUID rejected = book(9, 0);
+        appointmentService.updateStatus(rejected, AppointmentStatus.REJECTED);
+        book(9, 0);
+
+        assertThatThrownBy(() -> appointmentService.updateStatusBulk(doctorId, List.of(rejected), AppointmentStatus.APPROVED))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("APPT_TIME_SLOT_BOOKED");
+    }
+
+    @Test
+    void createForUnknownPatientIsNotFound() {
+        assertThatThrownBy(() -> appointmentService.create(
+                new CreateAppointmentRequest(UUID.randomUUID(), doctorId, DAY.atTime(9, 0))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("PATIENT_NOT_FOUND");
+    }
+
+    @Test
+    void createForDeletedDoctorIsNotFound() {
+        // Program önbellekte kalırken doktor silinir; doktorun varlığını yabancı anahtar doğrular
+        weeklySchedules.template(doctorId);
+        jdbc.update("DELETE FROM doctor_schedules WHERE doctor_id = ?", doctorId);
+        jdbc.update("DELETE FROM users WHERE id = ?", doctorId);
+
+        assertThatThrownBy(() -> book(9, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("DOCTOR_NOT_FOUND");
+    }
+}
@@ -0,0 +1,81 @@
+package com.clinic.appointmentsystem.application.services;
+
+import com.clinic.appointmentsystem.PostgresIntegrationTest;
+import com.clinic.appointmentsystem.application.dto.appointment.ShiftedAppointmentView;
+import com.clinic.appointmentsystem.domain.enums.AppointmentStatus;
+import com.clinic.appointmentsystem.domain.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Günün randevularını toplu taşımada başlangıcı geçmiş randevuların yerinde kalması
+ *
+ * Geçmiş randevular servis üzerinden oluşturulamadığı için satırlar doğrudan eklenir.
+ */
+class AppointmentServiceShiftDayTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private UUID doctorId;
+    private UUID patientId;
+
+    @BeforeEach
+    void setUp() {
+        doctorId = createDoctor(30);
+        patientId = createUser(Role.PATIENT);
+    }
+
+    private UUID insert(LocalDateTime time) {
+        UUID id = UUID.randomUUID();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbc.update("INSERT INTO appointments (id, patient_id, doctor_id, appointment_time, end_time, status, " +
+                        "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                id, patientId, doctorId, Timestamp.valueOf(time), Timestamp.valueOf(time.plusMinutes(30)),
+                AppointmentStatus.APPROVED.name(), now, now);
+        return id;
+    }
+
+    private LocalDateTime appointmentTime(UUID id) {
+        return jdbc.queryForObject("SELECT appointment_time FROM appointments WHERE id = ?", LocalDateTime.class, id);
+    }
+
+    @Test
+    void shiftOfTodayMovesOnlyUpcomingAppointments() {
+        LocalDate today = LocalDate.now();
+        assumeTrue(LocalTime.now().isBefore(LocalTime.of(23, 30)), "yaklaşan randevu için gün sonuna çok yakın");
+        UUID past = insert(today.atStartOfDay());
+        UUID upcoming = insert(today.atTime(23, 30));
+
+        // 23:30 → hedef günde 10:30; geçmiş randevu taşınsaydı hedef günün öncesine düşerdi
+        List<ShiftedAppointmentView> shifted = appointmentService.shiftDay(doctorId, today, -13 * 60, DAY, null);
+
+        assertThat(shifted).extracting(ShiftedAppointmentView::id).containsExactly(upcoming);
+        assertThat(appointmentTime(upcoming)).isEqualTo(DAY.atTime(10, 30));
+        assertThat(appointmentTime(past)).isEqualTo(today.atStartOfDay());
+    }
+
+    @Test
+    void shiftOfDayWithOnlyPastAppointmentsMovesNothing() {
+        LocalDate today = LocalDate.now();
+        UUID past = insert(today.atStartOfDay());
+
+        assertThat(appointmentService.shiftDay(doctorId, today, 30, null, null)).isEmpty();
+        assertThat(appointmentTime(past)).isEqualTo(today.atStartOfDay());
+    }
+}
@@ -0,0 +1,107 @@
+package com.clinic.appointmentsystem.application.services;
+
+import com.clinic.appointmentsystem.PostgresIntegrationTest;
+import com.clinic.appointmentsystem.application.availability.WeeklyScheduleCache;
+import com.clinic.appointmentsystem.application.dto.appointment.CreateAppointmentRequest;
+import com.clinic.appointmentsystem.domain.enums.AppointmentStatus;
+import com.clinic.appointmentsystem.domain.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AppointmentService yazma ve listeleme işlemlerinin hazırladığı SQL ifadesi sayısı
+ *
+ * Haftalık program önbelleği ısıtılmış ve kilit modu none (varsayılan) iken ölçülür.
+ */
+@TestPropertySource(properties = "appointment.booking.lock-mode=none")
+class AppointmentServiceStatementCountTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private WeeklyScheduleCache weeklySchedules;
+
+    private UUID doctorId;
+    private UUID patientId;
+
+    @BeforeEach
+    void setUp() {
+        doctorId = createDoctor(30);
+        patientId = createUser(Role.PATIENT);
+        weeklySchedules.template(doctorId);
+    }
+
+    private UUID book(int hour) {
+        return appointmentService.create(new CreateAppointmentRequest(patientId, doctorId, DAY.atTime(hour, 0)));
+    }
+
+    @Test
+    void createUsesHoldCheckAndInsert() {
+        // Hasta ve doktor yüklenmez, program önbellekten okunur: tutma kontrolü + INSERT
+        LocalDateTime time = DAY.atTime(9, 0);
+        long statements = countStatements(() ->
+                appointmentService.create(new CreateAppointmentRequest(patientId, doctorId, time)));
+
+        assertThat(statements).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void createWithColdScheduleCacheLoadsWeekOnce() {
+        UUID coldDoctorId = createDoctor(30);
+        long statements = countStatements(() ->
+                appointmentService.create(new CreateAppointmentRequest(patientId, coldDoctorId, DAY.atTime(9, 0))));
+
+        assertThat(statements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void rescheduleUsesSelectHoldCheckAndUpdate() {
+        UUID id = book(9);
+
+        assertThat(countStatements(() -> appointmentService.reschedule(id, DAY.atTime(10, 0)))).isEqualTo(3);
+    }
+
+    @Test
+    void updateStatusUsesSelectAndUpdate() {
+        UUID id = book(9);
+
+        assertThat(countStatements(() -> appointmentService.updateStatus(id, AppointmentStatus.APPROVED))).isEqualTo(2);
+    }
+
+    @Test
+    void addNoteUsesSelectAndUpdate() {
+        UUID id = book(9);
+
+        assertThat(countStatements(() -> appointmentService.addNote(id, "not"))).isEqualTo(2);
+    }
+
+    @Test
+    void deleteUsesSelectAndDelete() {
+        UUID id = book(9);
+
+        assertThat(countStatements(() -> appointmentService.delete(id))).isEqualTo(2);
+    }
+
+    @Test
+    void pagedListingsUseSingleQuery() {
+        book(9);
+        book(10);
+        book(11);
+
+        assertThat(countStatements(() -> appointmentService.findByPatient(patientId, null, null, null, null, 2)))
+                .isEqualTo(1);
+        String cursor = appointmentService.findByPatient(patientId, null, null, null, null, 2).nextCursor();
+        assertThat(countStatements(() -> appointmentService.findByPatient(patientId, null, null, null, cursor, 2)))
+                .isEqualTo(1);
+        assertThat(countStatements(() -> appointmentService.findByDoctor(doctorId, DAY, DAY,
+                AppointmentStatus.PENDING, null, 2))).isEqualTo(1);
+    }
+}
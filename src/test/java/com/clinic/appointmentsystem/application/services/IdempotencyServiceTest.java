@@ -0,0 +1,81 @@
+package com.clinic.appointmentsystem.application.services;
+
+import com.clinic.appointmentsystem.PostgresIntegrationTest;
+import com.clinic.appointmentsystem.application.dto.appointment.CreateAppointmentRequest;
+import com.clinic.appointmentsystem.domain.enums.Role;
+import com.clinic.appointmentsystem.persistence.repositories.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Idempotency-Key sonuçlarının anahtarı ilk kullanan isteğe bağlı olması
+ *
+ * Önbellekten ve veritabanından yanıtlanan tekrarlar ayrı ayrı denenir; veritabanı yolu için
+ * önbelleği boş ikinci bir servis örneği kullanılır.
+ */
+class IdempotencyServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private IdempotencyService idempotency;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private IdempotencyRecordRepository repo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID doctorId;
+    private UUID patientId;
+
+    @BeforeEach
+    void setUp() {
+        doctorId = createDoctor(30);
+        patientId = createUser(Role.PATIENT);
+    }
+
+    private UUID create(IdempotencyService service, String key, CreateAppointmentRequest request) {
+        return service.execute(patientId, key, request, () -> appointmentService.create(request));
+    }
+
+    @Test
+    void sameRequestReturnsFirstAppointment() {
+        String key = UUID.randomUUID().toString();
+        CreateAppointmentRequest request = new CreateAppointmentRequest(patientId, doctorId, DAY.atTime(9, 0));
+        UUID first = create(idempotency, key, request);
+
+        assertThat(create(idempotency, key, request)).isEqualTo(first);
+        assertThat(create(uncached(), key, request)).isEqualTo(first);
+    }
+
+    @Test
+    void differentRequestWithSameKeyIsRejected() {
+        String key = UUID.randomUUID().toString();
+        create(idempotency, key, new CreateAppointmentRequest(patientId, doctorId, DAY.atTime(9, 0)));
+        CreateAppointmentRequest other = new CreateAppointmentRequest(patientId, doctorId, DAY.atTime(10, 0));
+
+        assertThatThrownBy(() -> create(idempotency, key, other))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("IDEMPOTENCY_KEY_REUSED");
+        assertThatThrownBy(() -> create(uncached(), key, other))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("IDEMPOTENCY_KEY_REUSED");
+    }
+
+    private IdempotencyService uncached() {
+        return new IdempotencyService(repo, transactionManager, objectMapper, 10, 24);
+    }
+}
@@ -0,0 +1,66 @@
+package com.clinic.appointmentsystem.application.services;
+
+import com.clinic.appointmentsystem.PostgresIntegrationTest;
+import com.clinic.appointmentsystem.application.dto.appointment.CreateAppointmentRequest;
+import com.clinic.appointmentsystem.domain.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Zaman dilimi tutmalarının çakışma kısıtı (ex_slot_hold_overlap) ile iş hatalarına çevrilmesi
+ */
+class SlotHoldServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private SlotHoldService slotHoldService;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    private UUID doctorId;
+    private UUID patientId;
+    private UUID otherPatientId;
+
+    @BeforeEach
+    void setUp() {
+        doctorId = createDoctor(30);
+        patientId = createUser(Role.PATIENT);
+        otherPatientId = createUser(Role.PATIENT);
+    }
+
+    @Test
+    void holdingHeldSlotIsConflict() {
+        slotHoldService.hold(patientId, doctorId, DAY.atTime(9, 0));
+
+        assertThatThrownBy(() -> slotHoldService.hold(otherPatientId, doctorId, DAY.atTime(9, 0)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("APPT_SLOT_HELD");
+    }
+
+    @Test
+    void holdingOverlappingSlotIsConflict() {
+        slotHoldService.hold(patientId, doctorId, DAY.atTime(9, 0));
+
+        assertThatThrownBy(() -> slotHoldService.hold(otherPatientId, doctorId, DAY.atTime(9, 15)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("APPT_SLOT_HELD");
+    }
+
+    @Test
+    void bookingHeldSlotIsConflictForOthersOnly() {
+        slotHoldService.hold(patientId, doctorId, DAY.atTime(9, 0));
+
+        assertThatThrownBy(() -> appointmentService.create(
+                new CreateAppointmentRequest(otherPatientId, doctorId, DAY.atTime(9, 0))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("APPT_SLOT_HELD");
+        assertThat(appointmentService.create(new CreateAppointmentRequest(patientId, doctorId, DAY.atTime(9, 0))))
+                .isNotNull();
+    }
+}
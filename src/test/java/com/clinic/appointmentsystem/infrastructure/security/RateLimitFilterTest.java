@@ -0,0 +1,60 @@
+package com.clinic.appointmentsystem.infrastructure.security;
+
+import com.clinic.appointmentsystem.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Kimliği doğrulanmamış istemcinin anahtarının güvenilen vekil arkasında X-Forwarded-For'dan çözülmesi
+ *
+ * İstekler gerçek Tomcat üzerinden loopback adresinden (güvenilen vekil) gönderilir; giriş grubunun
+ * kovası tek isteklik olduğundan ikinci istek aynı istemci için 429 döner.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "security.rate-limit.enabled=true",
+        "security.rate-limit.auth.capacity=1",
+        "security.rate-limit.auth.refill-per-minute=1"
+})
+class RateLimitFilterTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    private HttpStatusCode login(String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", forwardedFor);
+        String body = "{\"email\":\"nobody@clinic.local\",\"password\":\"wrong\"}";
+        return rest.postForEntity("/api/auth/login", new HttpEntity<>(body, headers), String.class).getStatusCode();
+    }
+
+    @Test
+    void clientsBehindTrustedProxyHaveSeparateBuckets() {
+        assertThat(login("203.0.113.10")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(login("203.0.113.11")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void sameForwardedClientSharesBucket() {
+        assertThat(login("203.0.113.20")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(login("203.0.113.20")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void spoofedHopBeforeClientIsIgnored() {
+        // Güvenilmeyen bir adresin eklediği sol taraftaki değerler anahtarı değiştirmez
+        assertThat(login("198.51.100.1, 203.0.113.30")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(login("198.51.100.2, 203.0.113.30")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+}
@@ -0,0 +1,66 @@
+package com.clinic.appointmentsystem.infrastructure.security;
+
+import com.clinic.appointmentsystem.PostgresIntegrationTest;
+import com.clinic.appointmentsystem.application.dto.user.UpdateUserRequest;
+import com.clinic.appointmentsystem.application.services.UserService;
+import com.clinic.appointmentsystem.domain.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Email değişikliğinde token sürümünün artırılması ve eski sürümlü token'ların reddedilmesi
+ *
+ * Sürüm karşılaştırması zaman damgasına bağlı olmadığı için aynı saniyede üretilen token'lar da
+ * ayırt edilir. Diğer sunucular önbellekleri yenilendiğinde veritabanındaki sürümü görür.
+ */
+class TokenRevocationRegistryTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private TokenRevocationRegistry revocations;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void emailChangeRevokesTokensOfPreviousVersion() {
+        UUID userId = createUser(Role.PATIENT);
+        VerifiedToken before = jwtService.verify(jwtService.generateToken(userId, userId + "@test.local", "PATIENT", 0));
+        assertThat(revocations.isRevoked(userId, before.tokenVersion())).isFalse();
+
+        userService.updateUser(userId, new UpdateUserRequest("Test", "Kullanıcı", userId + "@changed.local"));
+        int version = userRepo.findById(userId).orElseThrow().getTokenVersion();
+        VerifiedToken after = jwtService.verify(jwtService.generateToken(userId, userId + "@changed.local", "PATIENT", version));
+
+        assertThat(after.tokenVersion()).isEqualTo(1);
+        assertThat(revocations.isRevoked(userId, before.tokenVersion())).isTrue();
+        assertThat(revocations.isRevoked(userId, after.tokenVersion())).isFalse();
+    }
+
+    @Test
+    void otherNodeSeesVersionFromDatabase() {
+        UUID userId = createUser(Role.PATIENT);
+        TokenRevocationRegistry otherNode = new TokenRevocationRegistry(userRepo, 100, 30_000);
+        assertThat(otherNode.isRevoked(userId, 0)).isFalse();
+
+        jdbc.update("UPDATE users SET token_version = token_version + 1 WHERE id = ?", userId);
+        otherNode.refresh(userId); // önbellek süresinin dolması
+
+        assertThat(otherNode.isRevoked(userId, 0)).isTrue();
+    }
+
+    @Test
+    void tokensOfDeletedUserAreRevoked() {
+        assertThat(revocations.isRevoked(UUID.randomUUID(), 0)).isTrue();
+    }
+}
@@ -0,0 +1,164 @@
+package com.clinic.appointmentsystem.persistence.repositories;
+
+import com.clinic.appointmentsystem.PostgresIntegrationTest;
+import com.clinic.appointmentsystem.application.dto.appointment.AppointmentDoctorView;
+import com.clinic.appointmentsystem.application.mapper.AppointmentMapper;
+import com.clinic.appointmentsystem.application.mapper.UserMapper;
+import com.clinic.appointmentsystem.domain.entities.Appointment;
+import com.clinic.appointmentsystem.domain.enums.AppointmentStatus;
+import com.clinic.appointmentsystem.domain.enums.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Doktor randevu listesinin 1000 satırlık sayfada entity ve projeksiyon ile yüklenmesinin karşılaştırması
+ *
+ * Önce: randevular hasta ve doktor ile birlikte entity olarak yüklenir (JOIN FETCH) ve UserMapper ile
+ * görünüme çevrilir. Sonra: findPageByDoctorId projeksiyonu ve AppointmentMapper kullanılır.
+ * İkisi de salt okunur işlemde, her satırı farklı bir hastaya ait 1000 randevu üzerinde çalışır.
+ * Ölçülen değerler çağrı başına iş parçacığının ayırdığı bellek (JDBC sürücüsü dahil) ve süredir.
+ *
+ * Uzun sürdüğü için sadece -Dbenchmark=true ile çalışır.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AppointmentListingBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int ROWS = 1000;
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 100;
+    private static final LocalDateTime FROM = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2100, 1, 1, 0, 0);
+
+    @Autowired
+    private AppointmentRepository appointmentRepo;
+
+    @Autowired
+    private AppointmentMapper appointmentMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate readOnly;
+    private UUID doctorId;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        doctorId = createUser(Role.DOCTOR);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> patients = new ArrayList<>(ROWS);
+        List<Object[]> appointments = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            UUID patientId = UUID.randomUUID();
+            patients.add(new Object[]{patientId, "Hasta", "Benchmark" + i, patientId + "@bench.local",
+                    "$2a$10$" + "x".repeat(53), Role.PATIENT.name(), Timestamp.valueOf(now), Timestamp.valueOf(now)});
+            LocalDateTime time = LocalDateTime.of(2030, 1, 1, 9, 0).plusMinutes(30L * i);
+            appointments.add(new Object[]{UUID.randomUUID(), patientId, doctorId, Timestamp.valueOf(time),
+                    Timestamp.valueOf(time.plusMinutes(30)), AppointmentStatus.PENDING.name(), "not " + i,
+                    Timestamp.valueOf(now), Timestamp.valueOf(now)});
+        }
+        jdbc.batchUpdate("INSERT INTO users (id, first_name, last_name, email, password_hash, role, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", patients);
+        jdbc.batchUpdate("INSERT INTO appointments (id, patient_id, doctor_id, appointment_time, end_time, status, note, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", appointments);
+    }
+
+    // Değişiklikten önceki yol: entity + JOIN FETCH, görünüm UserMapper ile oluşturulur
+    private List<AppointmentDoctorView> loadEntities() {
+        return readOnly.execute(status -> entityManager.createQuery(
+                        "SELECT a FROM Appointment a JOIN FETCH a.patient JOIN FETCH a.doctor " +
+                                "WHERE a.doctor.id = :doctorId " +
+                                "AND a.appointmentTime >= :from AND a.appointmentTime < :to " +
+                                "AND a.status IN :statuses " +
+                                "ORDER BY a.appointmentTime, a.id", Appointment.class)
+                .setParameter("doctorId", doctorId)
+                .setParameter("from", FROM)
+                .setParameter("to", TO)
+                .setParameter("statuses", EnumSet.allOf(AppointmentStatus.class))
+                .setMaxResults(ROWS)
+                .getResultList().stream()
+                .map(a -> new AppointmentDoctorView(a.getId().toString(), userMapper.toDto(a.getPatient()),
+                        a.getAppointmentTime(), a.getStatus(), a.getNote(), a.getCreatedAt(), a.getUpdatedAt()))
+                .toList());
+    }
+
+    // Şimdiki yol: projeksiyon, entity yüklenmez
+    private List<AppointmentDoctorView> loadProjection() {
+        return readOnly.execute(status -> appointmentRepo.findPageByDoctorId(doctorId, FROM, TO,
+                        EnumSet.allOf(AppointmentStatus.class), FROM, new UUID(0L, 0L), Limit.of(ROWS))
+                .stream()
+                .map(appointmentMapper::toDoctorView)
+                .toList());
+    }
+
+    @Test
+    void projectionAllocatesLessThanEntities() {
+        assertThat(loadProjection()).isEqualTo(loadEntities()).hasSize(ROWS);
+
+        Result entities = measure(this::loadEntities);
+        Result projection = measure(this::loadProjection);
+        log.info("listing {} rows  entity+JOIN FETCH: {}", ROWS, entities);
+        log.info("listing {} rows  projection:        {}", ROWS, projection);
+
+        assertThat(projection.allocatedBytes()).isLessThan(entities.allocatedBytes());
+    }
+
+    private static Result measure(Supplier<List<AppointmentDoctorView>> load) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) load.get();
+
+        long[] nanos = new long[ITERATIONS];
+        long[] bytes = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long allocated = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            load.get();
+            nanos[i] = System.nanoTime() - start;
+            bytes[i] = threads.getCurrentThreadAllocatedBytes() - allocated;
+        }
+        Arrays.sort(nanos);
+        Arrays.sort(bytes);
+        return new Result(bytes[ITERATIONS / 2], nanos[ITERATIONS / 2], nanos[ITERATIONS * 9 / 10]);
+    }
+
+    private record Result(long allocatedBytes, long medianNanos, long p90Nanos) {
+        @Override
+        public String toString() {
+            return String.format("%,d KB allocated, median %.2f ms, p90 %.2f ms",
+                    allocatedBytes / 1024, medianNanos / 1e6, p90Nanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.clinic.appointmentsystem.persistence.repositories;
+
+import com.clinic.appointmentsystem.PostgresIntegrationTest;
+import com.clinic.appointmentsystem.domain.entities.User;
+import com.clinic.appointmentsystem.domain.enums.Role;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Native yazma ifadelerinin ikinci seviye önbelleği boşaltmaması
+ *
+ * Hibernate, etkilediği tabloları (query space) bildirmeyen native @Modifying ifadelerinin tüm
+ * varlıkları değiştirdiğini varsayar ve tüm bölgeleri siler. Her ifadeden sonra önbellekteki
+ * kullanıcının tekrar okunması bölgede isabet olmalı, ıska olmamalıdır.
+ */
+class NativeStatementCacheTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRepo;
+
+    @Autowired
+    private AppointmentRepository appointmentRepo;
+
+    @Autowired
+    private TransactionTemplate tx;
+
+    private UUID userId;
+    private CacheRegionStatistics userRegion;
+
+    @BeforeEach
+    void setUp() {
+        userId = createUser(Role.PATIENT);
+        userRegion = statistics().getDomainDataRegionStatistics(User.class.getName());
+        userRepo.findById(userId);
+        assertCachedRead();
+    }
+
+    private void assertCachedRead() {
+        long hits = userRegion.getHitCount();
+        long misses = userRegion.getMissCount();
+        assertThat(userRepo.findById(userId)).isPresent();
+        assertThat(userRegion.getMissCount()).isEqualTo(misses);
+        assertThat(userRegion.getHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void idempotencyClaimKeepsEntityCache() {
+        LocalDateTime now = LocalDateTime.now();
+        tx.executeWithoutResult(status ->
+                idempotencyRepo.claim(userId, UUID.randomUUID().toString(), "0".repeat(64), now, now.minusHours(24)));
+
+        assertCachedRead();
+    }
+
+    @Test
+    void deferredOverlapCheckKeepsEntityCache() {
+        tx.executeWithoutResult(status -> {
+            appointmentRepo.deferTimeOverlapCheck();
+            appointmentRepo.checkTimeOverlapNow();
+        });
+
+        assertCachedRead();
+    }
+}